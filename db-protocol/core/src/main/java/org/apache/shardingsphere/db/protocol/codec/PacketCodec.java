@@ -23,6 +23,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 
 import java.util.List;
@@ -50,9 +51,18 @@ public final class PacketCodec extends ByteToMessageCodec<DatabasePacket> {
     
     @Override
     protected void encode(final ChannelHandlerContext context, final DatabasePacket message, final ByteBuf out) {
+        int writerIndex = out.writerIndex();
         databasePacketCodecEngine.encode(context, message, out);
+        recordEncodedBytes(context, out.writerIndex() - writerIndex);
         if (log.isDebugEnabled()) {
             log.debug("Write to client {} :\n{}", context.channel().id().asShortText(), ByteBufUtil.prettyHexDump(out));
         }
     }
+    
+    private void recordEncodedBytes(final ChannelHandlerContext context, final int encodedBytes) {
+        PacketEncodeStatistics statistics = context.channel().attr(CommonConstants.PACKET_ENCODE_STATISTICS_ATTRIBUTE_KEY).get();
+        if (null != statistics) {
+            statistics.record(encodedBytes);
+        }
+    }
 }
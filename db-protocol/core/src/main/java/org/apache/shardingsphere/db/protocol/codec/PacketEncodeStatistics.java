@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.codec;
+
+/**
+ * Packet encode statistics.
+ */
+public final class PacketEncodeStatistics {
+    
+    private static final int SMOOTHING_SHIFT = 3;
+    
+    private volatile int averagePacketBytes;
+    
+    /**
+     * Record encoded packet.
+     *
+     * @param packetBytes bytes of encoded packet
+     */
+    public void record(final int packetBytes) {
+        int current = averagePacketBytes;
+        averagePacketBytes = 0 == current ? packetBytes : current + ((packetBytes - current) >> SMOOTHING_SHIFT);
+    }
+    
+    /**
+     * Get average bytes of encoded packets.
+     *
+     * @return average packet bytes, 0 if no packet encoded yet
+     */
+    public int getAveragePacketBytes() {
+        return averagePacketBytes;
+    }
+}
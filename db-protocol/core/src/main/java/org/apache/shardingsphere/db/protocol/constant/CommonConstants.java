@@ -20,6 +20,7 @@ package org.apache.shardingsphere.db.protocol.constant;
 import io.netty.util.AttributeKey;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.db.protocol.codec.PacketEncodeStatistics;
 
 import java.nio.charset.Charset;
 import java.util.concurrent.atomic.AtomicReference;
@@ -32,5 +33,7 @@ public final class CommonConstants {
     
     public static final AttributeKey<Charset> CHARSET_ATTRIBUTE_KEY = AttributeKey.valueOf(Charset.class.getName());
     
+    public static final AttributeKey<PacketEncodeStatistics> PACKET_ENCODE_STATISTICS_ATTRIBUTE_KEY = AttributeKey.valueOf(PacketEncodeStatistics.class.getName());
+    
     public static final AtomicReference<String> PROXY_VERSION = new AtomicReference<>();
 }
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.db.protocol.netty;
 
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
+import org.apache.shardingsphere.db.protocol.codec.PacketEncodeStatistics;
 import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
 
 import java.nio.charset.Charset;
@@ -31,6 +32,7 @@ public final class ChannelAttrInitializer extends ChannelInboundHandlerAdapter {
     @Override
     public void channelActive(final ChannelHandlerContext ctx) {
         ctx.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).setIfAbsent(Charset.defaultCharset());
+        ctx.channel().attr(CommonConstants.PACKET_ENCODE_STATISTICS_ATTRIBUTE_KEY).setIfAbsent(new PacketEncodeStatistics());
         ctx.fireChannelActive();
     }
 }
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.payload;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Text value encoder, which writes text values into byte buffers without intermediate strings or byte arrays.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TextValueEncoder {
+    
+    private static final String LONG_MIN_VALUE = Long.toString(Long.MIN_VALUE);
+    
+    /**
+     * Judge whether value is integral and can be encoded by {@link #writeIntegral(ByteBuf, long)}.
+     *
+     * @param value value
+     * @return is integral or not
+     */
+    public static boolean isIntegral(final Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    /**
+     * Get length of decimal text of integral value.
+     *
+     * @param value integral value
+     * @return length of decimal text
+     */
+    public static int getIntegralLength(final long value) {
+        if (Long.MIN_VALUE == value) {
+            return LONG_MIN_VALUE.length();
+        }
+        if (value < 0L) {
+            return 1 + getDigits(-value);
+        }
+        return getDigits(value);
+    }
+    
+    private static int getDigits(final long value) {
+        int result = 1;
+        long threshold = 10L;
+        while (result < 19 && value >= threshold) {
+            result++;
+            threshold *= 10L;
+        }
+        return result;
+    }
+    
+    /**
+     * Write decimal text of integral value into byte buffers.
+     *
+     * @param byteBuf byte buffers
+     * @param value integral value
+     */
+    public static void writeIntegral(final ByteBuf byteBuf, final long value) {
+        if (Long.MIN_VALUE == value) {
+            byteBuf.writeCharSequence(LONG_MIN_VALUE, StandardCharsets.US_ASCII);
+            return;
+        }
+        int length = getIntegralLength(value);
+        byteBuf.ensureWritable(length);
+        int startIndex = byteBuf.writerIndex();
+        long remaining = value;
+        if (value < 0L) {
+            byteBuf.setByte(startIndex, '-');
+            remaining = -value;
+        }
+        int index = startIndex + length;
+        do {
+            byteBuf.setByte(--index, '0' + (int) (remaining % 10L));
+            remaining /= 10L;
+        } while (0L != remaining);
+        byteBuf.writerIndex(startIndex + length);
+    }
+    
+    /**
+     * Get encoded length of text without encoding it.
+     *
+     * @param value text
+     * @param charset charset
+     * @return encoded length, or -1 if charset does not support direct encoding
+     */
+    public static int getEncodedLength(final CharSequence value, final Charset charset) {
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            return ByteBufUtil.utf8Bytes(value);
+        }
+        if (StandardCharsets.ISO_8859_1.equals(charset)) {
+            return value.length();
+        }
+        return -1;
+    }
+    
+    /**
+     * Write text with encoded length got by {@link #getEncodedLength(CharSequence, Charset)} into byte buffers.
+     * 
+     * <p>Only encoded length is reserved, so that text can be written into byte buffers with bounded capacity.</p>
+     *
+     * @param byteBuf byte buffers
+     * @param value text
+     * @param charset charset
+     * @param encodedLength encoded length
+     */
+    public static void writeText(final ByteBuf byteBuf, final CharSequence value, final Charset charset, final int encodedLength) {
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            ByteBufUtil.reserveAndWriteUtf8(byteBuf, value, encodedLength);
+            return;
+        }
+        byteBuf.ensureWritable(encodedLength);
+        byteBuf.writeCharSequence(value, charset);
+    }
+    
+    /**
+     * Judge whether charset supports writing text into byte buffers directly.
+     *
+     * @param charset charset
+     * @return support direct encoding or not
+     */
+    public static boolean isDirectlyEncodable(final Charset charset) {
+        return StandardCharsets.UTF_8.equals(charset) || StandardCharsets.ISO_8859_1.equals(charset);
+    }
+}
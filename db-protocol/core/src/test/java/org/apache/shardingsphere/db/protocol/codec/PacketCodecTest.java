@@ -18,7 +18,10 @@
 package org.apache.shardingsphere.db.protocol.codec;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,6 +31,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -70,8 +77,20 @@ class PacketCodecTest {
     
     @Test
     void assertEncode() {
+        when(context.channel()).thenReturn(new EmbeddedChannel());
         DatabasePacket databasePacket = mock(DatabasePacket.class);
         packetCodec.encode(context, databasePacket, byteBuf);
         verify(databasePacketCodecEngine).encode(context, databasePacket, byteBuf);
     }
+    
+    @Test
+    void assertEncodeWithStatistics() {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        PacketEncodeStatistics statistics = new PacketEncodeStatistics();
+        channel.attr(CommonConstants.PACKET_ENCODE_STATISTICS_ATTRIBUTE_KEY).set(statistics);
+        when(context.channel()).thenReturn(channel);
+        doAnswer(invocation -> invocation.<ByteBuf>getArgument(2).writeBytes(new byte[16])).when(databasePacketCodecEngine).encode(any(), any(), any());
+        packetCodec.encode(context, mock(DatabasePacket.class), Unpooled.buffer());
+        assertThat(statistics.getAveragePacketBytes(), is(16));
+    }
 }
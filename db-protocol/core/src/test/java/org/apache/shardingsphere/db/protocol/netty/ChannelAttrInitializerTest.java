@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.db.protocol.netty;
 
 import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.codec.PacketEncodeStatistics;
 import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
 import org.junit.jupiter.api.Test;
 
@@ -35,6 +36,7 @@ class ChannelAttrInitializerTest {
         ChannelHandlerContext context = mock(ChannelHandlerContext.class, RETURNS_DEEP_STUBS);
         new ChannelAttrInitializer().channelActive(context);
         verify(context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY)).setIfAbsent(any(Charset.class));
+        verify(context.channel().attr(CommonConstants.PACKET_ENCODE_STATISTICS_ATTRIBUTE_KEY)).setIfAbsent(any(PacketEncodeStatistics.class));
         verify(context).fireChannelActive();
     }
 }
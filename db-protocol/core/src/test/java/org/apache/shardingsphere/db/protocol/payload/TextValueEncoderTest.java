@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.payload;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TextValueEncoderTest {
+    
+    @Test
+    void assertIsIntegral() {
+        assertTrue(TextValueEncoder.isIntegral(1L));
+        assertTrue(TextValueEncoder.isIntegral((byte) 1));
+        assertFalse(TextValueEncoder.isIntegral(1.0D));
+        assertFalse(TextValueEncoder.isIntegral("1"));
+    }
+    
+    @Test
+    void assertWriteIntegral() {
+        for (long each : new long[]{0L, 9L, 10L, -1L, -10L, 1234567890L, Long.MAX_VALUE, Long.MIN_VALUE, Integer.MIN_VALUE}) {
+            ByteBuf byteBuf = Unpooled.buffer(1);
+            TextValueEncoder.writeIntegral(byteBuf, each);
+            assertThat(byteBuf.toString(StandardCharsets.US_ASCII), is(Long.toString(each)));
+            assertThat(TextValueEncoder.getIntegralLength(each), is(Long.toString(each).length()));
+        }
+    }
+    
+    @Test
+    void assertGetEncodedLength() {
+        assertThat(TextValueEncoder.getEncodedLength("值a", StandardCharsets.UTF_8), is(4));
+        assertThat(TextValueEncoder.getEncodedLength("abc", StandardCharsets.ISO_8859_1), is(3));
+        assertThat(TextValueEncoder.getEncodedLength("abc", StandardCharsets.UTF_16), is(-1));
+    }
+    
+    @Test
+    void assertWriteTextIntoBoundedByteBuf() {
+        ByteBuf byteBuf = Unpooled.wrappedBuffer(new byte[5]).writerIndex(0);
+        TextValueEncoder.writeText(byteBuf, "值ab", StandardCharsets.UTF_8, TextValueEncoder.getEncodedLength("值ab", StandardCharsets.UTF_8));
+        assertThat(byteBuf.toString(StandardCharsets.UTF_8), is("值ab"));
+        byteBuf.clear();
+        TextValueEncoder.writeText(byteBuf, "abcde", StandardCharsets.ISO_8859_1, 5);
+        assertThat(byteBuf.toString(StandardCharsets.ISO_8859_1), is("abcde"));
+    }
+}
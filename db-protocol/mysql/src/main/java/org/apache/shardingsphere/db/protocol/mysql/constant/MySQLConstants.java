@@ -22,6 +22,7 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * MySQL constants.
@@ -35,6 +36,8 @@ public final class MySQLConstants {
     
     public static final AttributeKey<Integer> MYSQL_OPTION_MULTI_STATEMENTS = AttributeKey.valueOf("MYSQL_OPTION_MULTI_STATEMENTS");
     
+    public static final AttributeKey<AtomicLong> MYSQL_LONG_DATA_SIZE = AttributeKey.valueOf("MYSQL_LONG_DATA_SIZE");
+    
     /**
      * Protocol version is always 0x0A.
      */
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary;
 
+import io.netty.buffer.ByteBuf;
 import lombok.Getter;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacketType;
@@ -24,6 +25,7 @@ import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 
 /**
  * COM_STMT_SEND_LONG_DATA command packet for MySQL.
+ * Data is a slice of the packet payload, it is only valid until the command has been executed.
  */
 @Getter
 public final class MySQLComStmtSendLongDataPacket extends MySQLCommandPacket {
@@ -32,12 +34,12 @@ public final class MySQLComStmtSendLongDataPacket extends MySQLCommandPacket {
     
     private final int paramId;
     
-    private final byte[] data;
+    private final ByteBuf data;
     
     public MySQLComStmtSendLongDataPacket(final MySQLPacketPayload payload) {
         super(MySQLCommandPacketType.COM_STMT_SEND_LONG_DATA);
         statementId = payload.readInt4();
         paramId = payload.readInt2();
-        data = payload.readStringEOFByBytes();
+        data = payload.getByteBuf().readSlice(payload.getByteBuf().readableBytes());
     }
 }
@@ -22,6 +22,7 @@ import io.netty.buffer.ByteBuf;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.db.protocol.payload.TextValueEncoder;
 
 import java.nio.charset.Charset;
 
@@ -241,11 +242,27 @@ public final class MySQLPacketPayload implements PacketPayload {
             byteBuf.writeByte(0);
             return;
         }
+        int encodedLength = TextValueEncoder.getEncodedLength(value, charset);
+        if (encodedLength >= 0) {
+            writeIntLenenc(encodedLength);
+            TextValueEncoder.writeText(byteBuf, value, charset, encodedLength);
+            return;
+        }
         byte[] valueBytes = value.getBytes(charset);
         writeIntLenenc(valueBytes.length);
         byteBuf.writeBytes(valueBytes);
     }
     
+    /**
+     * Write lenenc string of integral value to byte buffers.
+     *
+     * @param value integral value
+     */
+    public void writeIntegralStringLenenc(final long value) {
+        writeIntLenenc(TextValueEncoder.getIntegralLength(value));
+        TextValueEncoder.writeIntegral(byteBuf, value);
+    }
+    
     /**
      * Write lenenc bytes to byte buffers.
      *
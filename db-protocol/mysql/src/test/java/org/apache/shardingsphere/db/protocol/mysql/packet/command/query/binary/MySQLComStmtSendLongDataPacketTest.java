@@ -34,6 +34,6 @@ class MySQLComStmtSendLongDataPacketTest {
         MySQLComStmtSendLongDataPacket actual = new MySQLComStmtSendLongDataPacket(new MySQLPacketPayload(Unpooled.wrappedBuffer(data), StandardCharsets.UTF_8));
         assertThat(actual.getStatementId(), is(1));
         assertThat(actual.getParamId(), is(0));
-        assertThat(actual.getData(), is("abc".getBytes(StandardCharsets.UTF_8)));
+        assertThat(actual.getData().toString(StandardCharsets.UTF_8), is("abc"));
     }
 }
@@ -64,6 +64,15 @@ class MySQLTextResultSetRowPacketTest {
         verify(payload).writeBytesLenenc(new byte[]{1});
     }
     
+    @Test
+    void assertWriteIntegralValues() {
+        new MySQLTextResultSetRowPacket(Arrays.asList(1L, 2, (short) 3, (byte) 4)).write(payload);
+        verify(payload).writeIntegralStringLenenc(1L);
+        verify(payload).writeIntegralStringLenenc(2L);
+        verify(payload).writeIntegralStringLenenc(3L);
+        verify(payload).writeIntegralStringLenenc(4L);
+    }
+    
     @Test
     void assertTimestampWithoutNanos() {
         long now = System.currentTimeMillis() / 1000 * 1000;
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.db.protocol.mysql.payload;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -208,6 +209,29 @@ class MySQLPacketPayloadTest {
         verify(byteBuf).writeBytes("value".getBytes());
     }
     
+    @Test
+    void assertWriteStringLenencWithMultiBytesCharacters() {
+        ByteBuf actual = Unpooled.buffer();
+        new MySQLPacketPayload(actual, StandardCharsets.UTF_8).writeStringLenenc("值");
+        assertThat(actual.readUnsignedByte(), is((short) 3));
+        assertThat(actual.toString(StandardCharsets.UTF_8), is("值"));
+    }
+    
+    @Test
+    void assertWriteStringLenencWithNotDirectlyEncodableCharset() {
+        new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_16BE).writeStringLenenc("value");
+        verify(byteBuf).writeByte(10);
+        verify(byteBuf).writeBytes("value".getBytes(StandardCharsets.UTF_16BE));
+    }
+    
+    @Test
+    void assertWriteIntegralStringLenenc() {
+        ByteBuf actual = Unpooled.buffer();
+        new MySQLPacketPayload(actual, StandardCharsets.UTF_8).writeIntegralStringLenenc(-1024L);
+        assertThat(actual.readUnsignedByte(), is((short) 5));
+        assertThat(actual.toString(StandardCharsets.UTF_8), is("-1024"));
+    }
+    
     @Test
     void assertReadStringFix() {
         assertThat(new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8).readStringFix(0), is(""));
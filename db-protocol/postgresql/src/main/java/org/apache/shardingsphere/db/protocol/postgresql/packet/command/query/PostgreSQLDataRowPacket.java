@@ -17,9 +17,11 @@
 
 package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query;
 
+import io.netty.buffer.ByteBuf;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
+import org.apache.shardingsphere.db.protocol.payload.TextValueEncoder;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.PostgreSQLBinaryProtocolValue;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.PostgreSQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierPacket;
@@ -71,6 +73,12 @@ public final class PostgreSQLDataRowPacket extends PostgreSQLIdentifierPacket {
             payload.writeBytes((byte[]) each);
         } else if (each instanceof SQLXML) {
             writeSQLXMLData(payload, each);
+        } else if (TextValueEncoder.isIntegral(each)) {
+            long value = ((Number) each).longValue();
+            payload.writeInt4(TextValueEncoder.getIntegralLength(value));
+            TextValueEncoder.writeIntegral(payload.getByteBuf(), value);
+        } else if (TextValueEncoder.isDirectlyEncodable(payload.getCharset())) {
+            writeTextDirectly(payload, each.toString());
         } else {
             byte[] columnData = each.toString().getBytes(payload.getCharset());
             payload.writeInt4(columnData.length);
@@ -78,6 +86,14 @@ public final class PostgreSQLDataRowPacket extends PostgreSQLIdentifierPacket {
         }
     }
     
+    private void writeTextDirectly(final PostgreSQLPacketPayload payload, final String value) {
+        ByteBuf byteBuf = payload.getByteBuf();
+        int lengthIndex = byteBuf.writerIndex();
+        payload.writeInt4(0);
+        int length = byteBuf.writeCharSequence(value, payload.getCharset());
+        byteBuf.setInt(lengthIndex, length);
+    }
+    
     private void writeSQLXMLData(final PostgreSQLPacketPayload payload, final Object data) {
         try {
             byte[] dataBytes = ((SQLXML) data).getString().getBytes(payload.getCharset());
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
@@ -84,14 +86,34 @@ class PostgreSQLDataRowPacketTest {
     
     @Test
     void assertWriteWithString() {
-        PostgreSQLDataRowPacket actual = new PostgreSQLDataRowPacket(Collections.singleton("value"));
-        assertThat(actual.getData(), is(Collections.singleton("value")));
-        actual.write(payload);
-        byte[] valueBytes = "value".getBytes(StandardCharsets.UTF_8);
+        PostgreSQLDataRowPacket actual = new PostgreSQLDataRowPacket(Collections.singleton("值value"));
+        assertThat(actual.getData(), is(Collections.singleton("值value")));
+        ByteBuf byteBuf = Unpooled.buffer();
+        actual.write(new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8));
+        byte[] valueBytes = "值value".getBytes(StandardCharsets.UTF_8);
+        assertThat(byteBuf.readShort(), is((short) 1));
+        assertThat(byteBuf.readInt(), is(valueBytes.length));
+        assertThat(byteBuf.toString(StandardCharsets.UTF_8), is("值value"));
+    }
+    
+    @Test
+    void assertWriteWithStringAndNotDirectlyEncodableCharset() {
+        when(payload.getCharset()).thenReturn(StandardCharsets.UTF_16BE);
+        new PostgreSQLDataRowPacket(Collections.singleton("value")).write(payload);
+        byte[] valueBytes = "value".getBytes(StandardCharsets.UTF_16BE);
         verify(payload).writeInt4(valueBytes.length);
         verify(payload).writeBytes(valueBytes);
     }
     
+    @Test
+    void assertWriteWithIntegral() {
+        ByteBuf byteBuf = Unpooled.buffer();
+        new PostgreSQLDataRowPacket(Collections.singleton(-1234567890123L)).write(new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8));
+        assertThat(byteBuf.readShort(), is((short) 1));
+        assertThat(byteBuf.readInt(), is(14));
+        assertThat(byteBuf.toString(StandardCharsets.UTF_8), is("-1234567890123"));
+    }
+    
     @Test
     void assertWriteWithSQLXML4Error() throws SQLException {
         when(sqlxml.getString()).thenThrow(new SQLException("mock"));
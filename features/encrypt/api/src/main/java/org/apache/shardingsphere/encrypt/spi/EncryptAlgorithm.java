@@ -20,6 +20,10 @@ package org.apache.shardingsphere.encrypt.spi;
 import org.apache.shardingsphere.infra.algorithm.core.ShardingSphereAlgorithm;
 import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
 /**
  * Encrypt algorithm.
  */
@@ -43,6 +47,23 @@ public interface EncryptAlgorithm extends ShardingSphereAlgorithm {
      */
     Object decrypt(Object cipherValue, AlgorithmSQLContext algorithmSQLContext);
     
+    /**
+     * Decrypt batch of cipher values.
+     *
+     * @param cipherValues cipher values
+     * @param algorithmSQLContexts algorithm SQL contexts in the same order of cipher values
+     * @return plain values in the same order of cipher values
+     */
+    default List<Object> batchDecrypt(final List<Object> cipherValues, final List<AlgorithmSQLContext> algorithmSQLContexts) {
+        List<Object> result = new ArrayList<>(cipherValues.size());
+        Iterator<AlgorithmSQLContext> algorithmSQLContextIterator = algorithmSQLContexts.iterator();
+        for (Object each : cipherValues) {
+            AlgorithmSQLContext algorithmSQLContext = algorithmSQLContextIterator.next();
+            result.add(null == each ? null : decrypt(each, algorithmSQLContext));
+        }
+        return result;
+    }
+    
     /**
      * Get encrypt algorithm meta data.
      *
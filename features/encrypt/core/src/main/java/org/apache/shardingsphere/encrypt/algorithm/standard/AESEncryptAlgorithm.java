@@ -33,28 +33,40 @@ import javax.crypto.Cipher;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.List;
 import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
 
 /**
  * AES encrypt algorithm.
  */
 @EqualsAndHashCode
-public final class AESEncryptAlgorithm implements EncryptAlgorithm {
+public final class AESEncryptAlgorithm implements EncryptAlgorithm, AutoCloseable {
     
     private static final String AES_KEY = "aes-key-value";
     
     private static final String DIGEST_ALGORITHM_NAME = "digest-algorithm-name";
     
+    private static final int MAX_IDLE_CIPHERS = Runtime.getRuntime().availableProcessors();
+    
     @Getter
     private final EncryptAlgorithmMetaData metaData = new EncryptAlgorithmMetaData(true, true, false);
     
-    private byte[] secretKey;
+    private SecretKeySpec secretKeySpec;
+    
+    @EqualsAndHashCode.Exclude
+    private final Queue<Cipher> idleEncryptCiphers = new ArrayBlockingQueue<>(MAX_IDLE_CIPHERS);
+    
+    @EqualsAndHashCode.Exclude
+    private final Queue<Cipher> idleDecryptCiphers = new ArrayBlockingQueue<>(MAX_IDLE_CIPHERS);
     
     @Override
     public void init(final Properties props) {
-        secretKey = getSecretKey(props);
+        secretKeySpec = new SecretKeySpec(getSecretKey(props), getType());
     }
     
     private byte[] getSecretKey(final Properties props) {
@@ -70,7 +82,9 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm {
         if (null == plainValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
+        Cipher cipher = borrowCipher(idleEncryptCiphers, Cipher.ENCRYPT_MODE);
+        byte[] result = cipher.doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
+        idleEncryptCiphers.offer(cipher);
         return Base64.getEncoder().encodeToString(result);
     }
     
@@ -80,16 +94,43 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm {
         if (null == cipherValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(Base64.getDecoder().decode(cipherValue.toString().trim()));
-        return new String(result, StandardCharsets.UTF_8);
+        Cipher cipher = borrowCipher(idleDecryptCiphers, Cipher.DECRYPT_MODE);
+        Object result = doDecrypt(cipher, cipherValue);
+        idleDecryptCiphers.offer(cipher);
+        return result;
+    }
+    
+    @SneakyThrows(GeneralSecurityException.class)
+    @Override
+    public List<Object> batchDecrypt(final List<Object> cipherValues, final List<AlgorithmSQLContext> algorithmSQLContexts) {
+        List<Object> result = new ArrayList<>(cipherValues.size());
+        Cipher cipher = borrowCipher(idleDecryptCiphers, Cipher.DECRYPT_MODE);
+        for (Object each : cipherValues) {
+            result.add(null == each ? null : doDecrypt(cipher, each));
+        }
+        idleDecryptCiphers.offer(cipher);
+        return result;
+    }
+    
+    private String doDecrypt(final Cipher cipher, final Object cipherValue) throws GeneralSecurityException {
+        return new String(cipher.doFinal(Base64.getDecoder().decode(cipherValue.toString().trim())), StandardCharsets.UTF_8);
     }
     
-    private Cipher getCipher(final int decryptMode) throws GeneralSecurityException {
-        Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(secretKey, getType()));
+    private Cipher borrowCipher(final Queue<Cipher> idleCiphers, final int mode) throws GeneralSecurityException {
+        Cipher result = idleCiphers.poll();
+        if (null == result) {
+            result = Cipher.getInstance(getType());
+            result.init(mode, secretKeySpec);
+        }
         return result;
     }
     
+    @Override
+    public void close() {
+        idleEncryptCiphers.clear();
+        idleDecryptCiphers.clear();
+    }
+    
     @Override
     public String getType() {
         return "AES";
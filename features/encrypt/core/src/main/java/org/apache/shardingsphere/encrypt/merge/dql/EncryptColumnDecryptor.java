@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.merge.dql;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Encrypt column decryptor, decrypts cipher values of all columns sharing the same encryptor in one batch.
+ */
+@RequiredArgsConstructor
+public final class EncryptColumnDecryptor {
+    
+    private final EncryptAlgorithm encryptor;
+    
+    private final List<Integer> columnIndexes = new LinkedList<>();
+    
+    private final List<AlgorithmSQLContext> algorithmSQLContexts = new LinkedList<>();
+    
+    /**
+     * Add column.
+     *
+     * @param columnIndex column index
+     * @param algorithmSQLContext algorithm SQL context
+     */
+    public void addColumn(final int columnIndex, final AlgorithmSQLContext algorithmSQLContext) {
+        columnIndexes.add(columnIndex);
+        algorithmSQLContexts.add(algorithmSQLContext);
+    }
+    
+    /**
+     * Decrypt columns of current row.
+     *
+     * @param mergedResult merged result
+     * @param plainValues plain values of current row indexed by column index
+     * @throws SQLException SQL exception
+     */
+    public void decrypt(final MergedResult mergedResult, final Object[] plainValues) throws SQLException {
+        List<Object> cipherValues = new ArrayList<>(columnIndexes.size());
+        for (int each : columnIndexes) {
+            cipherValues.add(mergedResult.getValue(each, Object.class));
+        }
+        Iterator<Object> plainValueIterator = encryptor.batchDecrypt(cipherValues, algorithmSQLContexts).iterator();
+        for (int each : columnIndexes) {
+            plainValues[each] = plainValueIterator.next();
+        }
+    }
+}
@@ -19,7 +19,9 @@ package org.apache.shardingsphere.encrypt.merge.dql;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
-import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
+import org.apache.shardingsphere.encrypt.rule.EncryptTable;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
@@ -30,6 +32,9 @@ import java.io.InputStream;
 import java.io.Reader;
 import java.sql.SQLException;
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -46,46 +51,102 @@ public final class EncryptMergedResult implements MergedResult {
     
     private final MergedResult mergedResult;
     
+    private boolean[] encryptColumns;
+    
+    private Collection<EncryptColumnDecryptor> decryptors;
+    
+    private Object[] plainValues;
+    
+    private boolean currentRowDecrypted;
+    
+    private boolean lastValueDecrypted;
+    
+    private boolean lastDecryptedValueNull;
+    
+    private String schemaName;
+    
     @Override
     public boolean next() throws SQLException {
+        currentRowDecrypted = false;
         return mergedResult.next();
     }
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        Optional<ColumnProjection> columnProjection = selectStatementContext.findColumnProjection(columnIndex);
-        if (!columnProjection.isPresent()) {
+        if (!isEncryptColumn(columnIndex)) {
+            lastValueDecrypted = false;
             return mergedResult.getValue(columnIndex, type);
         }
-        String originalTableName = columnProjection.get().getOriginalTable().getValue();
-        String originalColumnName = columnProjection.get().getOriginalColumn().getValue();
-        if (!encryptRule.findEncryptTable(originalTableName).map(optional -> optional.isEncryptColumn(originalColumnName)).orElse(false)) {
-            return mergedResult.getValue(columnIndex, type);
+        if (!currentRowDecrypted) {
+            for (EncryptColumnDecryptor each : decryptors) {
+                each.decrypt(mergedResult, plainValues);
+            }
+            currentRowDecrypted = true;
+        }
+        Object result = plainValues[columnIndex];
+        lastValueDecrypted = true;
+        lastDecryptedValueNull = null == result;
+        return result;
+    }
+    
+    private boolean isEncryptColumn(final int columnIndex) {
+        if (null == encryptColumns) {
+            initDecryptors();
+        }
+        return columnIndex < encryptColumns.length && encryptColumns[columnIndex];
+    }
+    
+    private void initDecryptors() {
+        int columnCount = selectStatementContext.getProjectionsContext().getExpandProjections().size();
+        encryptColumns = new boolean[columnCount + 1];
+        plainValues = new Object[columnCount + 1];
+        Map<EncryptAlgorithm, EncryptColumnDecryptor> result = new IdentityHashMap<>();
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            Optional<ColumnProjection> columnProjection = selectStatementContext.findColumnProjection(columnIndex);
+            if (!columnProjection.isPresent()) {
+                continue;
+            }
+            String originalTableName = columnProjection.get().getOriginalTable().getValue();
+            String originalColumnName = columnProjection.get().getOriginalColumn().getValue();
+            Optional<EncryptTable> encryptTable = encryptRule.findEncryptTable(originalTableName);
+            if (!encryptTable.isPresent() || !encryptTable.get().isEncryptColumn(originalColumnName)) {
+                continue;
+            }
+            EncryptAlgorithm encryptor = encryptTable.get().getEncryptColumn(originalColumnName).getCipher().getEncryptor();
+            result.computeIfAbsent(encryptor, EncryptColumnDecryptor::new).addColumn(columnIndex, new AlgorithmSQLContext(database.getName(), getSchemaName(), originalTableName, originalColumnName));
+            encryptColumns[columnIndex] = true;
+        }
+        decryptors = result.values();
+    }
+    
+    private String getSchemaName() {
+        if (null == schemaName) {
+            schemaName = selectStatementContext.getTablesContext().getSchemaName()
+                    .orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName()));
         }
-        Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
-        EncryptColumn encryptColumn = encryptRule.getEncryptTable(originalTableName).getEncryptColumn(originalColumnName);
-        String schemaName =
-                selectStatementContext.getTablesContext().getSchemaName().orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName()));
-        return encryptColumn.getCipher().decrypt(database.getName(), schemaName, originalTableName, originalColumnName, cipherValue);
+        return schemaName;
     }
     
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        lastValueDecrypted = false;
         return mergedResult.getCalendarValue(columnIndex, type, calendar);
     }
     
     @Override
     public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        lastValueDecrypted = false;
         return mergedResult.getInputStream(columnIndex, type);
     }
     
     @Override
     public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        lastValueDecrypted = false;
         return mergedResult.getCharacterStream(columnIndex);
     }
     
     @Override
     public boolean wasNull() throws SQLException {
-        return mergedResult.wasNull();
+        return lastValueDecrypted ? lastDecryptedValueNull : mergedResult.wasNull();
     }
 }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.encrypt.rule;
 
 import lombok.Getter;
+import lombok.SneakyThrows;
 import org.apache.shardingsphere.encrypt.api.config.EncryptRuleConfiguration;
 import org.apache.shardingsphere.encrypt.api.config.rule.EncryptColumnRuleConfiguration;
 import org.apache.shardingsphere.encrypt.api.config.rule.EncryptTableRuleConfiguration;
@@ -39,13 +40,15 @@ import java.util.Optional;
 /**
  * Encrypt rule.
  */
-public final class EncryptRule implements DatabaseRule {
+public final class EncryptRule implements DatabaseRule, AutoCloseable {
     
     private final String databaseName;
     
     @Getter
     private final EncryptRuleConfiguration configuration;
     
+    private final Map<String, EncryptAlgorithm> encryptors;
+    
     private final Map<String, EncryptTable> tables;
     
     @Getter
@@ -54,8 +57,8 @@ public final class EncryptRule implements DatabaseRule {
     public EncryptRule(final String databaseName, final EncryptRuleConfiguration ruleConfig) {
         this.databaseName = databaseName;
         configuration = ruleConfig;
+        encryptors = createEncryptors(ruleConfig);
         tables = new LinkedHashMap<>();
-        Map<String, EncryptAlgorithm> encryptors = createEncryptors(ruleConfig);
         for (EncryptTableRuleConfiguration each : ruleConfig.getTables()) {
             each.getColumns().forEach(columnRuleConfig -> checkEncryptorType(columnRuleConfig, encryptors));
             tables.put(each.getName().toLowerCase(), new EncryptTable(each, encryptors));
@@ -104,4 +107,14 @@ public final class EncryptRule implements DatabaseRule {
         ShardingSpherePreconditions.checkState(encryptTable.isPresent(), () -> new EncryptTableNotFoundException(tableName));
         return encryptTable.get();
     }
+    
+    @SneakyThrows(Exception.class)
+    @Override
+    public void close() {
+        for (EncryptAlgorithm each : encryptors.values()) {
+            if (each instanceof AutoCloseable) {
+                ((AutoCloseable) each).close();
+            }
+        }
+    }
 }
@@ -27,14 +27,21 @@ import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
+import org.mockito.internal.configuration.plugins.Plugins;
 
+import javax.crypto.Cipher;
+import javax.crypto.IllegalBlockSizeException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Queue;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.times;
@@ -97,4 +104,40 @@ class AESEncryptAlgorithmTest {
     void assertDecryptNullValue() {
         assertNull(encryptAlgorithm.decrypt(null, mock(AlgorithmSQLContext.class)));
     }
+    
+    @Test
+    void assertEncryptAndDecryptRepeatedly() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(encryptAlgorithm.encrypt("test", mock(AlgorithmSQLContext.class)), is("dSpPiyENQGDUXMKFMJPGWA=="));
+            assertThat(encryptAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA==", mock(AlgorithmSQLContext.class)), is("test"));
+        }
+    }
+    
+    @Test
+    void assertDecryptAfterInvalidCipherValue() {
+        assertThrows(IllegalBlockSizeException.class, () -> encryptAlgorithm.decrypt("dGVzdA==", mock(AlgorithmSQLContext.class)));
+        assertThat(encryptAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA==", mock(AlgorithmSQLContext.class)), is("test"));
+    }
+    
+    @Test
+    void assertBatchDecrypt() {
+        assertThat(encryptAlgorithm.batchDecrypt(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", null, "dSpPiyENQGDUXMKFMJPGWA=="), Collections.nCopies(3, mock(AlgorithmSQLContext.class))),
+                is(Arrays.asList("test", null, "test")));
+    }
+    
+    @Test
+    void assertClose() throws Exception {
+        encryptAlgorithm.encrypt("test", mock(AlgorithmSQLContext.class));
+        encryptAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA==", mock(AlgorithmSQLContext.class));
+        assertThat(getIdleCiphers("idleEncryptCiphers").size(), is(1));
+        assertThat(getIdleCiphers("idleDecryptCiphers").size(), is(1));
+        ((AutoCloseable) encryptAlgorithm).close();
+        assertTrue(getIdleCiphers("idleEncryptCiphers").isEmpty());
+        assertTrue(getIdleCiphers("idleDecryptCiphers").isEmpty());
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Queue<Cipher> getIdleCiphers(final String fieldName) throws ReflectiveOperationException {
+        return (Queue<Cipher>) Plugins.getMemberAccessor().get(AESEncryptAlgorithm.class.getDeclaredField(fieldName), encryptAlgorithm);
+    }
 }
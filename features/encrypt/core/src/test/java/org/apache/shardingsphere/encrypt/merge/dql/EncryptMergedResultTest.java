@@ -18,6 +18,12 @@
 package org.apache.shardingsphere.encrypt.merge.dql;
 
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.rule.EncryptTable;
+import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.Projection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.ProjectionsContext;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -29,13 +35,23 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.io.InputStream;
 import java.io.Reader;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -58,6 +74,85 @@ class EncryptMergedResultTest {
         assertFalse(new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult).next());
     }
     
+    @Test
+    void assertGetValueWithoutColumnProjection() throws SQLException {
+        ProjectionsContext projectionsContext = mockProjectionsContext(1);
+        when(selectStatementContext.getProjectionsContext()).thenReturn(projectionsContext);
+        when(mergedResult.getValue(1, String.class)).thenReturn("VALUE");
+        EncryptMergedResult actual = new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult);
+        assertThat(actual.getValue(1, String.class), is("VALUE"));
+        assertThat(actual.getValue(1, String.class), is("VALUE"));
+        verify(selectStatementContext, times(1)).findColumnProjection(1);
+    }
+    
+    @Test
+    void assertGetValueWithEncryptColumn() throws SQLException {
+        SelectStatementContext selectStatementContext = mockSelectStatementContext("user_name");
+        EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
+        when(encryptAlgorithm.batchDecrypt(eq(Collections.singletonList("CIPHER_VALUE")), any())).thenReturn(Collections.singletonList("PLAIN_VALUE"));
+        mockEncryptTable(encryptAlgorithm, "user_name");
+        when(mergedResult.getValue(1, Object.class)).thenReturn("CIPHER_VALUE");
+        EncryptMergedResult actual = new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult);
+        assertThat(actual.getValue(1, String.class), is("PLAIN_VALUE"));
+        assertThat(actual.getValue(1, String.class), is("PLAIN_VALUE"));
+        assertFalse(actual.wasNull());
+        verify(encryptRule, times(1)).findEncryptTable("t_user");
+        verify(encryptAlgorithm, times(1)).batchDecrypt(any(), any());
+    }
+    
+    @Test
+    void assertGetValueWithEncryptColumnsSharingEncryptor() throws SQLException {
+        SelectStatementContext selectStatementContext = mockSelectStatementContext("user_name", "telephone");
+        EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
+        when(encryptAlgorithm.batchDecrypt(eq(Arrays.asList("CIPHER_NAME", "CIPHER_TELEPHONE")), any())).thenReturn(Arrays.asList("PLAIN_NAME", null));
+        mockEncryptTable(encryptAlgorithm, "user_name", "telephone");
+        when(mergedResult.next()).thenReturn(true);
+        when(mergedResult.getValue(1, Object.class)).thenReturn("CIPHER_NAME");
+        when(mergedResult.getValue(2, Object.class)).thenReturn("CIPHER_TELEPHONE");
+        EncryptMergedResult actual = new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult);
+        for (int i = 0; i < 2; i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, String.class), is("PLAIN_NAME"));
+            assertFalse(actual.wasNull());
+            assertNull(actual.getValue(2, String.class));
+            assertTrue(actual.wasNull());
+        }
+        verify(encryptAlgorithm, times(2)).batchDecrypt(any(), any());
+    }
+    
+    private SelectStatementContext mockSelectStatementContext(final String... columnNames) {
+        ProjectionsContext projectionsContext = mockProjectionsContext(columnNames.length);
+        SelectStatementContext result = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(result.getProjectionsContext()).thenReturn(projectionsContext);
+        for (int i = 0; i < columnNames.length; i++) {
+            ColumnProjection columnProjection = mock(ColumnProjection.class, RETURNS_DEEP_STUBS);
+            when(columnProjection.getOriginalTable().getValue()).thenReturn("t_user");
+            when(columnProjection.getOriginalColumn().getValue()).thenReturn(columnNames[i]);
+            when(result.findColumnProjection(i + 1)).thenReturn(Optional.of(columnProjection));
+        }
+        when(result.getTablesContext().getSchemaName()).thenReturn(Optional.of("foo_schema"));
+        when(database.getName()).thenReturn("foo_db");
+        return result;
+    }
+    
+    private ProjectionsContext mockProjectionsContext(final int columnCount) {
+        ProjectionsContext result = mock(ProjectionsContext.class);
+        Projection projection = mock(Projection.class);
+        when(result.getExpandProjections()).thenReturn(Collections.nCopies(columnCount, projection));
+        return result;
+    }
+    
+    private void mockEncryptTable(final EncryptAlgorithm encryptAlgorithm, final String... columnNames) {
+        EncryptColumn encryptColumn = mock(EncryptColumn.class, RETURNS_DEEP_STUBS);
+        when(encryptColumn.getCipher().getEncryptor()).thenReturn(encryptAlgorithm);
+        EncryptTable encryptTable = mock(EncryptTable.class);
+        for (String each : columnNames) {
+            when(encryptTable.isEncryptColumn(each)).thenReturn(true);
+            when(encryptTable.getEncryptColumn(each)).thenReturn(encryptColumn);
+        }
+        when(encryptRule.findEncryptTable("t_user")).thenReturn(Optional.of(encryptTable));
+    }
+    
     @Test
     void assertGetCalendarValue() throws SQLException {
         Calendar calendar = Calendar.getInstance();
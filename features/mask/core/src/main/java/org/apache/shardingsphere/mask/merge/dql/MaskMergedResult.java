@@ -28,6 +28,7 @@ import org.apache.shardingsphere.mask.spi.MaskAlgorithm;
 import java.io.InputStream;
 import java.io.Reader;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Optional;
 
@@ -43,6 +44,9 @@ public final class MaskMergedResult implements MergedResult {
     
     private final MergedResult mergedResult;
     
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Optional<MaskAlgorithm>[] maskAlgorithms = new Optional[0];
+    
     @Override
     public boolean next() throws SQLException {
         return mergedResult.next();
@@ -51,15 +55,7 @@ public final class MaskMergedResult implements MergedResult {
     @SuppressWarnings({"rawtypes", "unchecked"})
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        Optional<ColumnProjection> columnProjection = selectStatementContext.getProjectionsContext().findColumnProjection(columnIndex);
-        if (!columnProjection.isPresent()) {
-            return mergedResult.getValue(columnIndex, type);
-        }
-        Optional<MaskTable> maskTable = maskRule.findMaskTable(columnProjection.get().getOriginalTable().getValue());
-        if (!maskTable.isPresent()) {
-            return mergedResult.getValue(columnIndex, type);
-        }
-        Optional<MaskAlgorithm> maskAlgorithm = maskTable.get().findAlgorithm(columnProjection.get().getName().getValue());
+        Optional<MaskAlgorithm> maskAlgorithm = getMaskAlgorithm(columnIndex);
         if (!maskAlgorithm.isPresent()) {
             return mergedResult.getValue(columnIndex, type);
         }
@@ -67,6 +63,29 @@ public final class MaskMergedResult implements MergedResult {
         return null == originalValue ? null : maskAlgorithm.get().mask(originalValue);
     }
     
+    @SuppressWarnings("rawtypes")
+    private Optional<MaskAlgorithm> getMaskAlgorithm(final int columnIndex) {
+        if (columnIndex >= maskAlgorithms.length) {
+            maskAlgorithms = Arrays.copyOf(maskAlgorithms, Math.max(columnIndex + 1, maskAlgorithms.length * 2));
+        }
+        Optional<MaskAlgorithm> result = maskAlgorithms[columnIndex];
+        if (null == result) {
+            result = findMaskAlgorithm(columnIndex);
+            maskAlgorithms[columnIndex] = result;
+        }
+        return result;
+    }
+    
+    @SuppressWarnings("rawtypes")
+    private Optional<MaskAlgorithm> findMaskAlgorithm(final int columnIndex) {
+        Optional<ColumnProjection> columnProjection = selectStatementContext.getProjectionsContext().findColumnProjection(columnIndex);
+        if (!columnProjection.isPresent()) {
+            return Optional.empty();
+        }
+        Optional<MaskTable> maskTable = maskRule.findMaskTable(columnProjection.get().getOriginalTable().getValue());
+        return maskTable.isPresent() ? maskTable.get().findAlgorithm(columnProjection.get().getName().getValue()) : Optional.empty();
+    }
+    
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
         return mergedResult.getCalendarValue(columnIndex, type, calendar);
@@ -40,6 +40,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -59,6 +61,16 @@ class MaskMergedResultTest {
         assertThat(new MaskMergedResult(mockMaskRule(), mockSelectStatementContext(), mergedResult).getValue(1, String.class), is("MASK_VALUE"));
     }
     
+    @Test
+    void assertGetValueRepeatedly() throws SQLException {
+        when(mergedResult.getValue(1, Object.class)).thenReturn("VALUE");
+        MaskRule maskRule = mockMaskRule();
+        MaskMergedResult actual = new MaskMergedResult(maskRule, mockSelectStatementContext(), mergedResult);
+        assertThat(actual.getValue(1, String.class), is("MASK_VALUE"));
+        assertThat(actual.getValue(1, String.class), is("MASK_VALUE"));
+        verify(maskRule, times(1)).findMaskTable("tbl");
+    }
+    
     @SuppressWarnings("unchecked")
     private MaskRule mockMaskRule() {
         MaskAlgorithm<String, String> maskAlgorithm = mock(MaskAlgorithm.class);
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.datetime;
+
+import com.google.common.collect.BoundType;
+import com.google.common.collect.MapMaker;
+import com.google.common.collect.Range;
+
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Interval sharding index, which maps sorted interval starts to table suffixes.
+ *
+ * @param <T> type of date time
+ */
+public final class IntervalShardingIndex<T extends Comparable<? super T>> {
+    
+    private final T dateTimeLower;
+    
+    private final T dateTimeUpper;
+    
+    private final NavigableMap<T, Range<T>> intervals;
+    
+    private final Map<T, String> tableSuffixes;
+    
+    private final Collection<Integer> tableSuffixLengths;
+    
+    private final Function<Comparable<?>, T> endpointParser;
+    
+    private final Map<Collection<String>, Map<String, Collection<String>>> suffixTargetNamesCache = new MapMaker().weakKeys().makeMap();
+    
+    public IntervalShardingIndex(final T dateTimeLower, final T dateTimeUpper, final NavigableMap<T, Range<T>> intervals,
+                                 final DateTimeFormatter tableSuffixPattern, final Function<Comparable<?>, T> endpointParser) {
+        this.dateTimeLower = dateTimeLower;
+        this.dateTimeUpper = dateTimeUpper;
+        this.intervals = intervals;
+        tableSuffixes = new HashMap<>(intervals.size(), 1F);
+        Set<Integer> suffixLengths = new TreeSet<>();
+        for (T each : intervals.keySet()) {
+            String tableSuffix = tableSuffixPattern.format((TemporalAccessor) each);
+            tableSuffixes.put(each, tableSuffix);
+            suffixLengths.add(tableSuffix.length());
+        }
+        tableSuffixLengths = new ArrayList<>(suffixLengths);
+        this.endpointParser = endpointParser;
+    }
+    
+    /**
+     * Create intervals from lower to upper.
+     *
+     * @param dateTimeLower lower date time
+     * @param dateTimeUpper upper date time
+     * @param stepper function to calculate start of next interval
+     * @param <T> type of date time
+     * @return interval start and interval map
+     */
+    public static <T extends Comparable<? super T>> NavigableMap<T, Range<T>> createIntervals(final T dateTimeLower, final T dateTimeUpper, final Function<T, T> stepper) {
+        NavigableMap<T, Range<T>> result = new TreeMap<>();
+        T current = dateTimeLower;
+        while (current.compareTo(dateTimeUpper) <= 0) {
+            T next = stepper.apply(current);
+            // Date time wraps around (e.g. LocalTime passes midnight), so the last interval has no upper bound
+            if (next.compareTo(current) <= 0) {
+                result.put(current, Range.atLeast(current));
+                break;
+            }
+            result.put(current, Range.closedOpen(current, next));
+            current = next;
+        }
+        return result;
+    }
+    
+    /**
+     * Get matched target names.
+     *
+     * @param availableTargetNames available target names
+     * @param range range of sharding value
+     * @return matched target names
+     */
+    public Collection<String> getTargetNames(final Collection<String> availableTargetNames, final Range<Comparable<?>> range) {
+        T lower = range.hasLowerBound() ? endpointParser.apply(range.lowerEndpoint()) : dateTimeLower;
+        T upper = range.hasUpperBound() ? endpointParser.apply(range.upperEndpoint()) : dateTimeUpper;
+        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
+        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
+        Range<T> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
+        if (intervals.isEmpty()) {
+            return Collections.emptySet();
+        }
+        T fromKey = intervals.floorKey(lower);
+        if (null == fromKey) {
+            fromKey = intervals.firstKey();
+        }
+        if (fromKey.compareTo(upper) > 0) {
+            return Collections.emptySet();
+        }
+        Map<String, Collection<String>> suffixTargetNames = getSuffixTargetNames(availableTargetNames);
+        Set<String> result = new HashSet<>();
+        for (Entry<T, Range<T>> entry : intervals.subMap(fromKey, true, upper, true).entrySet()) {
+            if (entry.getValue().isConnected(dateTimeRange) && !entry.getValue().intersection(dateTimeRange).isEmpty()) {
+                result.addAll(suffixTargetNames.getOrDefault(tableSuffixes.get(entry.getKey()), Collections.emptyList()));
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, Collection<String>> getSuffixTargetNames(final Collection<String> availableTargetNames) {
+        return suffixTargetNamesCache.computeIfAbsent(availableTargetNames, this::createSuffixTargetNames);
+    }
+    
+    private Map<String, Collection<String>> createSuffixTargetNames(final Collection<String> availableTargetNames) {
+        Map<String, Collection<String>> result = new HashMap<>();
+        Set<String> allTableSuffixes = new HashSet<>(tableSuffixes.values());
+        for (String each : availableTargetNames) {
+            for (int length : tableSuffixLengths) {
+                if (each.length() < length) {
+                    break;
+                }
+                String tableSuffix = each.substring(each.length() - length);
+                if (allTableSuffixes.contains(tableSuffix)) {
+                    result.computeIfAbsent(tableSuffix, unused -> new ArrayList<>(1)).add(each);
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Modulo inline sharding expression.
+ * 
+ * <p>Compiled from common shapes of inline expression, such as {@code t_order_${order_id % 4}}, {@code t_order_${order_id.hashCode() % 4}},
+ * {@code t_order_${Math.abs(order_id.hashCode() % 4)}} and {@code t_order_${(order_id % 4).abs()}}.
+ * Evaluated result is the same as the one evaluated by Groovy.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ModuloInlineShardingExpression {
+    
+    private static final String TYPE_NAME_BEGIN_SYMBOL = "<";
+    
+    private static final String GROOVY_TYPE_NAME = "<GROOVY>";
+    
+    private static final Pattern PATTERN = Pattern.compile(
+            "([^${}\"\\\\]*)\\$\\{\\s*(Math\\.abs\\(|\\()?\\s*([A-Za-z_][A-Za-z0-9_]*)(\\.hashCode\\(\\))?\\s*%\\s*([1-9][0-9]{0,8})\\s*(\\)\\.abs\\(\\)|\\))?\\s*\\}([^${}\"\\\\]*)");
+    
+    private final String prefix;
+    
+    private final String columnName;
+    
+    private final boolean hashCode;
+    
+    private final int modulus;
+    
+    private final boolean abs;
+    
+    private final String suffix;
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param algorithmExpression algorithm expression
+     * @return compiled modulo inline sharding expression, empty if the shape of expression is not supported
+     */
+    public static Optional<ModuloInlineShardingExpression> compile(final String algorithmExpression) {
+        if (algorithmExpression.startsWith(TYPE_NAME_BEGIN_SYMBOL) && !algorithmExpression.startsWith(GROOVY_TYPE_NAME)) {
+            return Optional.empty();
+        }
+        String expression = algorithmExpression.startsWith(GROOVY_TYPE_NAME) ? algorithmExpression.substring(GROOVY_TYPE_NAME.length()) : algorithmExpression;
+        Matcher matcher = PATTERN.matcher(expression);
+        if (!matcher.matches() || "it".equals(matcher.group(3))) {
+            return Optional.empty();
+        }
+        String open = matcher.group(2);
+        String close = matcher.group(6);
+        boolean isPlain = null == open && null == close;
+        boolean isMathAbs = "Math.abs(".equals(open) && ")".equals(close);
+        boolean isAbsMethod = "(".equals(open) && ").abs()".equals(close);
+        if (!isPlain && !isMathAbs && !isAbsMethod) {
+            return Optional.empty();
+        }
+        return Optional.of(new ModuloInlineShardingExpression(matcher.group(1), matcher.group(3), null != matcher.group(4), Integer.parseInt(matcher.group(5)), !isPlain, matcher.group(7)));
+    }
+    
+    /**
+     * Evaluate with sharding value.
+     *
+     * @param columnName sharding column name
+     * @param value sharding value
+     * @return evaluated result, empty if column name is mismatched or value type is not supported
+     */
+    public Optional<String> evaluate(final String columnName, final Comparable<?> value) {
+        if (!this.columnName.equals(columnName)) {
+            return Optional.empty();
+        }
+        if (hashCode) {
+            int result = value.hashCode() % modulus;
+            return Optional.of(prefix + (abs ? Math.abs(result) : result) + suffix);
+        }
+        if (value instanceof Integer) {
+            int result = (Integer) value % modulus;
+            return Optional.of(prefix + (abs ? Math.abs(result) : result) + suffix);
+        }
+        if (value instanceof Long) {
+            long result = (Long) value % modulus;
+            return Optional.of(prefix + (abs ? Math.abs(result) : result) + suffix);
+        }
+        return Optional.empty();
+    }
+}
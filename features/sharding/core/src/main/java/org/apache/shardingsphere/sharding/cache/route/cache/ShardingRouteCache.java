@@ -21,7 +21,11 @@ import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Cache for sharding route.
@@ -30,16 +34,22 @@ public final class ShardingRouteCache {
     
     private final Cache<ShardingRouteCacheKey, ShardingRouteCacheValue> cache;
     
+    private final Map<String, ShardingRouteCacheStatistics> statistics = new ConcurrentHashMap<>();
+    
     public ShardingRouteCache(final ShardingCacheOptionsConfiguration cacheOptions) {
         cache = buildRouteCache(cacheOptions);
     }
     
     private Cache<ShardingRouteCacheKey, ShardingRouteCacheValue> buildRouteCache(final ShardingCacheOptionsConfiguration cacheOptions) {
-        Caffeine<Object, Object> result = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity()).maximumSize(cacheOptions.getMaximumSize());
+        Caffeine<Object, Object> result = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity());
         if (cacheOptions.isSoftValues()) {
             result.softValues();
         }
-        return result.build();
+        if (cacheOptions.getMaximumWeight() > 0) {
+            // Bound the total route units cached, so one wide route takes the room of several single-shard routes
+            return result.maximumWeight(cacheOptions.getMaximumWeight()).weigher((final ShardingRouteCacheKey key, final ShardingRouteCacheValue value) -> value.getWeight()).build();
+        }
+        return result.maximumSize(cacheOptions.getMaximumSize()).build();
     }
     
     /**
@@ -61,4 +71,30 @@ public final class ShardingRouteCache {
     public Optional<ShardingRouteCacheValue> get(final ShardingRouteCacheKey key) {
         return Optional.ofNullable(cache.getIfPresent(key));
     }
+    
+    /**
+     * Record hit or miss for logic tables.
+     *
+     * @param logicTableNames logic table names
+     * @param hit is hit or not
+     */
+    public void recordStatistics(final Collection<String> logicTableNames, final boolean hit) {
+        for (String each : logicTableNames) {
+            String logicTableName = each.toLowerCase();
+            ShardingRouteCacheStatistics tableStatistics = statistics.get(logicTableName);
+            if (null == tableStatistics) {
+                tableStatistics = statistics.computeIfAbsent(logicTableName, unused -> new ShardingRouteCacheStatistics());
+            }
+            tableStatistics.record(hit);
+        }
+    }
+    
+    /**
+     * Get statistics of logic tables.
+     *
+     * @return logic table name and statistics map
+     */
+    public Map<String, ShardingRouteCacheStatistics> getStatistics() {
+        return Collections.unmodifiableMap(statistics);
+    }
 }
@@ -41,7 +41,7 @@ public final class ShardingRouteCacheValue {
     private final RouteContext cachedRouteContext;
     
     public ShardingRouteCacheValue(final RouteContext routeContext) {
-        this(null != routeContext, routeContext);
+        this(null != routeContext, null == routeContext ? null : deepCopyRouteContext(routeContext));
     }
     
     /**
@@ -50,20 +50,29 @@ public final class ShardingRouteCacheValue {
      * @return optional cached route context
      */
     public Optional<RouteContext> getCachedRouteContext() {
-        return cacheable ? Optional.of(deepCopyRouteContext()) : Optional.empty();
+        return cacheable ? Optional.of(deepCopyRouteContext(cachedRouteContext)) : Optional.empty();
     }
     
-    private RouteContext deepCopyRouteContext() {
+    /**
+     * Get weight of cached route context, which is the fan-out of route units.
+     *
+     * @return weight
+     */
+    public int getWeight() {
+        return cacheable ? Math.max(1, cachedRouteContext.getRouteUnits().size()) : 1;
+    }
+    
+    private static RouteContext deepCopyRouteContext(final RouteContext routeContext) {
         RouteContext result = new RouteContext();
-        result.getOriginalDataNodes().addAll(deepCopyOriginalDataNodes());
-        result.getRouteUnits().addAll(deepCopyRouteUnits());
-        result.getRouteStageContexts().putAll(deepCopyRouteStageContext());
+        result.getOriginalDataNodes().addAll(deepCopyOriginalDataNodes(routeContext));
+        result.getRouteUnits().addAll(deepCopyRouteUnits(routeContext));
+        result.getRouteStageContexts().putAll(deepCopyRouteStageContext(routeContext));
         return result;
     }
     
-    private Collection<Collection<DataNode>> deepCopyOriginalDataNodes() {
-        Collection<Collection<DataNode>> result = new ArrayList<>(cachedRouteContext.getOriginalDataNodes().size());
-        for (Collection<DataNode> eachDataNodes : cachedRouteContext.getOriginalDataNodes()) {
+    private static Collection<Collection<DataNode>> deepCopyOriginalDataNodes(final RouteContext routeContext) {
+        Collection<Collection<DataNode>> result = new ArrayList<>(routeContext.getOriginalDataNodes().size());
+        for (Collection<DataNode> eachDataNodes : routeContext.getOriginalDataNodes()) {
             Collection<DataNode> eachResult = new ArrayList<>(eachDataNodes.size());
             // TODO This could be simplified if all fields of DataNode were immutable
             for (DataNode each : eachDataNodes) {
@@ -76,16 +85,16 @@ public final class ShardingRouteCacheValue {
         return result;
     }
     
-    private Collection<RouteUnit> deepCopyRouteUnits() {
-        Collection<RouteUnit> result = new ArrayList<>(cachedRouteContext.getRouteUnits().size());
-        for (RouteUnit each : cachedRouteContext.getRouteUnits()) {
+    private static Collection<RouteUnit> deepCopyRouteUnits(final RouteContext routeContext) {
+        Collection<RouteUnit> result = new ArrayList<>(routeContext.getRouteUnits().size());
+        for (RouteUnit each : routeContext.getRouteUnits()) {
             result.add(new RouteUnit(each.getDataSourceMapper(), new ArrayList<>(each.getTableMappers())));
         }
         return result;
     }
     
-    private Map<Class<? extends ShardingSphereRule>, ? extends RouteStageContext> deepCopyRouteStageContext() {
+    private static Map<Class<? extends ShardingSphereRule>, ? extends RouteStageContext> deepCopyRouteStageContext(final RouteContext routeContext) {
         // TODO Implements deep copy for route stage contexts
-        return cachedRouteContext.getRouteStageContexts();
+        return routeContext.getRouteStageContexts();
     }
 }
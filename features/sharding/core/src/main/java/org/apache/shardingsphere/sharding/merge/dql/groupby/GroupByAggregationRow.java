@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+
+/**
+ * Group by aggregation row, holds row data and aggregation units of one group.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class GroupByAggregationRow {
+    
+    private final GroupByValue groupByValue;
+    
+    private final Object[] data;
+    
+    private final AggregationUnit[] aggregationUnits;
+    
+    /**
+     * Combine aggregation units of another row with same group.
+     *
+     * @param row aggregation row to be combined
+     */
+    public void combine(final GroupByAggregationRow row) {
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            aggregationUnits[i].combine(row.aggregationUnits[i]);
+        }
+    }
+}
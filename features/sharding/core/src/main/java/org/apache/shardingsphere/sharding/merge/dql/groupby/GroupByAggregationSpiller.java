@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * Group by aggregation spiller.
+ * 
+ * <p>Partial aggregation rows are sorted by group by values and spilled to local temporary files as sorted runs,
+ * then sorted runs are merged with k-way merge and aggregation units of same group are combined.</p>
+ */
+public final class GroupByAggregationSpiller implements AutoCloseable {
+    
+    private static final Comparator<GroupByAggregationRow> ROW_COMPARATOR = (o1, o2) -> compareGroupValues(o1.getGroupByValue().getGroupValues(), o2.getGroupByValue().getGroupValues());
+    
+    private final Collection<Path> runFiles = new LinkedList<>();
+    
+    private boolean spillable = true;
+    
+    /**
+     * Spill aggregation rows as one sorted run.
+     * 
+     * <p>Spilling is refused if rows can not be serialized, such as rows with driver specific values which are not serializable,
+     * aggregation rows should be kept in memory after that.</p>
+     *
+     * @param rows aggregation rows
+     * @return spilled or not
+     */
+    public boolean spill(final Collection<GroupByAggregationRow> rows) {
+        if (!spillable) {
+            return false;
+        }
+        List<GroupByAggregationRow> sortedRows = new ArrayList<>(rows);
+        sortedRows.sort(ROW_COMPARATOR);
+        Path runFile = null;
+        try {
+            runFile = Files.createTempFile("shardingsphere-group-by-", ".run");
+            writeRun(runFile, sortedRows);
+            runFiles.add(runFile);
+            return true;
+        } catch (final IOException ignored) {
+            spillable = false;
+            deleteRunFile(runFile);
+            return false;
+        }
+    }
+    
+    private void writeRun(final Path runFile, final List<GroupByAggregationRow> sortedRows) throws IOException {
+        try (ObjectOutputStream outputStream = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(runFile)))) {
+            outputStream.writeInt(sortedRows.size());
+            for (GroupByAggregationRow each : sortedRows) {
+                outputStream.writeObject(new ArrayList<>(each.getGroupByValue().getGroupValues()));
+                outputStream.writeObject(each.getData());
+                outputStream.writeObject(each.getAggregationUnits());
+                outputStream.reset();
+            }
+        }
+    }
+    
+    @SneakyThrows(IOException.class)
+    private void deleteRunFile(final Path runFile) {
+        if (null != runFile) {
+            Files.deleteIfExists(runFile);
+        }
+    }
+    
+    /**
+     * Judge whether aggregation rows can be spilled.
+     *
+     * @return aggregation rows can be spilled or not
+     */
+    public boolean isSpillable() {
+        return spillable;
+    }
+    
+    /**
+     * Judge whether aggregation rows spilled.
+     *
+     * @return aggregation rows spilled or not
+     */
+    public boolean isSpilled() {
+        return !runFiles.isEmpty();
+    }
+    
+    /**
+     * Merge sorted runs, aggregation rows of same group are combined before consumed.
+     *
+     * @param consumer consumer of merged aggregation rows in order of group by values
+     */
+    public void merge(final Consumer<GroupByAggregationRow> consumer) {
+        Collection<RunReader> readers = new LinkedList<>();
+        PriorityQueue<RunReader> queue = new PriorityQueue<>(runFiles.size(), (o1, o2) -> ROW_COMPARATOR.compare(o1.getCurrent(), o2.getCurrent()));
+        try {
+            for (Path each : runFiles) {
+                RunReader reader = new RunReader(each);
+                readers.add(reader);
+                offer(queue, reader);
+            }
+            while (!queue.isEmpty()) {
+                RunReader reader = queue.poll();
+                GroupByAggregationRow row = reader.getCurrent();
+                offer(queue, reader);
+                while (!queue.isEmpty() && row.getGroupByValue().equals(queue.peek().getCurrent().getGroupByValue())) {
+                    RunReader sameGroupReader = queue.poll();
+                    row.combine(sameGroupReader.getCurrent());
+                    offer(queue, sameGroupReader);
+                }
+                consumer.accept(row);
+            }
+        } finally {
+            for (RunReader each : readers) {
+                each.close();
+            }
+        }
+    }
+    
+    private void offer(final PriorityQueue<RunReader> queue, final RunReader reader) {
+        if (reader.next()) {
+            queue.offer(reader);
+        }
+    }
+    
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static int compareGroupValues(final List<?> groupValues1, final List<?> groupValues2) {
+        for (int i = 0; i < groupValues1.size(); i++) {
+            Object value1 = groupValues1.get(i);
+            Object value2 = groupValues2.get(i);
+            if (null == value1 || null == value2) {
+                if (value1 != value2) {
+                    return null == value1 ? -1 : 1;
+                }
+                continue;
+            }
+            int result = value1 instanceof Comparable && value1.getClass() == value2.getClass()
+                    ? ((Comparable) value1).compareTo(value2)
+                    : value1.getClass().getName().compareTo(value2.getClass().getName());
+            if (0 == result && !value1.equals(value2)) {
+                result = value1.toString().compareTo(value2.toString());
+            }
+            if (0 != result) {
+                return result;
+            }
+        }
+        return 0;
+    }
+    
+    @Override
+    public void close() {
+        for (Path each : runFiles) {
+            deleteRunFile(each);
+        }
+        runFiles.clear();
+    }
+    
+    private static final class RunReader {
+        
+        private final ObjectInputStream inputStream;
+        
+        private int remaining;
+        
+        @Getter
+        private GroupByAggregationRow current;
+        
+        @SneakyThrows(IOException.class)
+        RunReader(final Path runFile) {
+            inputStream = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(runFile)));
+            remaining = inputStream.readInt();
+        }
+        
+        @SneakyThrows({IOException.class, ClassNotFoundException.class})
+        boolean next() {
+            if (0 == remaining) {
+                current = null;
+                return false;
+            }
+            remaining--;
+            List<?> groupValues = (List<?>) inputStream.readObject();
+            current = new GroupByAggregationRow(new GroupByValue(groupValues), (Object[]) inputStream.readObject(), (AggregationUnit[]) inputStream.readObject());
+            return true;
+        }
+        
+        @SneakyThrows(IOException.class)
+        void close() {
+            inputStream.close();
+        }
+    }
+}
@@ -23,7 +23,10 @@ import org.apache.shardingsphere.infra.binder.context.segment.select.projection.
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
@@ -39,15 +42,13 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.Sim
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * Memory merged result for group by.
@@ -58,65 +59,150 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         super(null, schema, selectStatementContext, queryResults);
     }
     
+    private GroupByMemoryMergedResult(final List<MemoryQueryResultRow> memoryQueryResultRows) {
+        super(memoryQueryResultRows);
+    }
+    
+    /**
+     * Create merged result for group by.
+     * 
+     * <p>Groups are spilled to disk when max memory rows is reached, and merged result of spilled groups is streamed from disk.
+     * Groups are kept in memory if they can not be spilled.</p>
+     *
+     * @param queryResults query results
+     * @param selectStatementContext select statement context
+     * @param schema ShardingSphere schema
+     * @param props configuration properties
+     * @return merged result
+     * @throws SQLException SQL exception
+     */
+    public static MergedResult create(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema,
+                                      final ConfigurationProperties props) throws SQLException {
+        int maxMemoryRows = props.getValue(ConfigurationPropertyKey.GROUP_BY_MERGE_MAX_MEMORY_ROWS);
+        List<AggregationProjection> aggregationProjections = selectStatementContext.getProjectionsContext().getAggregationProjections();
+        try (GroupByAggregationSpiller spiller = new GroupByAggregationSpiller()) {
+            Map<GroupByValue, GroupByAggregationRow> dataMap = aggregate(queryResults, selectStatementContext, aggregationProjections,
+                    maxMemoryRows, props.getValue(ConfigurationPropertyKey.DISTINCT_COUNT_APPROXIMATE_ENABLED), spiller);
+            List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.emptyList() : getValueCaseSensitive(queryResults.iterator().next(), selectStatementContext, schema);
+            if (spiller.isSpilled() && spiller.spill(dataMap.values())) {
+                return new GroupBySpilledMergedResult(spiller, each -> createMemoryQueryResultRow(each, aggregationProjections),
+                        new GroupByRowComparator(selectStatementContext, valueCaseSensitive), queryResults.get(0).getMetaData().getColumnCount(), maxMemoryRows);
+            }
+            loadSpilledRows(spiller, dataMap);
+            return new GroupByMemoryMergedResult(getMemoryResultSetRows(selectStatementContext, createMemoryQueryResultRows(dataMap.values(), aggregationProjections), valueCaseSensitive));
+        }
+    }
+    
     @Override
     protected List<MemoryQueryResultRow> init(final ShardingRule shardingRule, final ShardingSphereSchema schema,
                                               final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
         SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
-        Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024, 1F);
-        Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024, 1F);
+        List<AggregationProjection> aggregationProjections = selectStatementContext.getProjectionsContext().getAggregationProjections();
+        Map<GroupByValue, GroupByAggregationRow> dataMap = aggregate(queryResults, selectStatementContext, aggregationProjections, 0, false, new GroupByAggregationSpiller());
+        List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.emptyList() : getValueCaseSensitive(queryResults.iterator().next(), selectStatementContext, schema);
+        return getMemoryResultSetRows(selectStatementContext, createMemoryQueryResultRows(dataMap.values(), aggregationProjections), valueCaseSensitive);
+    }
+    
+    private static Map<GroupByValue, GroupByAggregationRow> aggregate(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                                                      final List<AggregationProjection> aggregationProjections, final int maxMemoryRows,
+                                                                      final boolean approximateDistinctCount, final GroupByAggregationSpiller spiller) throws SQLException {
+        Map<GroupByValue, GroupByAggregationRow> result = new HashMap<>(1024, 1F);
+        List<Comparable<?>> aggregationValues = new ArrayList<>(2);
         for (QueryResult each : queryResults) {
             while (each.next()) {
                 GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
-                initForFirstGroupByValue(selectStatementContext, each, groupByValue, dataMap, aggregationMap);
-                aggregate(selectStatementContext, each, groupByValue, aggregationMap);
+                GroupByAggregationRow row = result.get(groupByValue);
+                if (null == row) {
+                    row = new GroupByAggregationRow(groupByValue, loadData(each), createAggregationUnits(aggregationProjections, approximateDistinctCount));
+                    result.put(groupByValue, row);
+                }
+                aggregate(each, aggregationProjections, row.getAggregationUnits(), aggregationValues);
+                if (maxMemoryRows > 0 && result.size() >= maxMemoryRows && spiller.isSpillable()) {
+                    spill(spiller, result);
+                }
             }
         }
-        setAggregationValueToMemoryRow(selectStatementContext, dataMap, aggregationMap);
-        List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.emptyList() : getValueCaseSensitive(queryResults.iterator().next(), selectStatementContext, schema);
-        return getMemoryResultSetRows(selectStatementContext, dataMap, valueCaseSensitive);
+        return result;
     }
     
-    private void initForFirstGroupByValue(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
-                                          final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
-                                          final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
-        if (!dataMap.containsKey(groupByValue)) {
-            dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
+    private static void aggregate(final QueryResult queryResult, final List<AggregationProjection> aggregationProjections,
+                                  final AggregationUnit[] aggregationUnits, final List<Comparable<?>> aggregationValues) throws SQLException {
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            AggregationProjection aggregationProjection = aggregationProjections.get(i);
+            aggregationValues.clear();
+            if (aggregationProjection.getDerivedAggregationProjections().isEmpty()) {
+                aggregationValues.add(getAggregationValue(queryResult, aggregationProjection));
+            } else {
+                for (AggregationProjection each : aggregationProjection.getDerivedAggregationProjections()) {
+                    aggregationValues.add(getAggregationValue(queryResult, each));
+                }
+            }
+            aggregationUnits[i].merge(aggregationValues);
         }
-        aggregationMap.computeIfAbsent(groupByValue, unused -> selectStatementContext.getProjectionsContext().getAggregationProjections().stream()
-                .collect(Collectors.toMap(Function.identity(), input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection))));
     }
     
-    private void aggregate(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
-                           final GroupByValue groupByValue, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
-        for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
-            if (each.getDerivedAggregationProjections().isEmpty()) {
-                values.add(getAggregationValue(queryResult, each));
-            } else {
-                for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
-                    values.add(getAggregationValue(queryResult, derived));
-                }
+    private static void spill(final GroupByAggregationSpiller spiller, final Map<GroupByValue, GroupByAggregationRow> dataMap) {
+        if (spiller.spill(dataMap.values())) {
+            dataMap.clear();
+        } else {
+            loadSpilledRows(spiller, dataMap);
+        }
+    }
+    
+    private static void loadSpilledRows(final GroupByAggregationSpiller spiller, final Map<GroupByValue, GroupByAggregationRow> dataMap) {
+        if (!spiller.isSpilled()) {
+            return;
+        }
+        spiller.merge(each -> {
+            GroupByAggregationRow row = dataMap.putIfAbsent(each.getGroupByValue(), each);
+            if (null != row) {
+                row.combine(each);
             }
-            aggregationMap.get(groupByValue).get(each).merge(values);
+        });
+        spiller.close();
+    }
+    
+    private static List<MemoryQueryResultRow> createMemoryQueryResultRows(final Collection<GroupByAggregationRow> rows, final List<AggregationProjection> aggregationProjections) {
+        List<MemoryQueryResultRow> result = new ArrayList<>(rows.size());
+        for (GroupByAggregationRow each : rows) {
+            result.add(createMemoryQueryResultRow(each, aggregationProjections));
+        }
+        return result;
+    }
+    
+    private static Object[] loadData(final QueryResult queryResult) throws SQLException {
+        int columnCount = queryResult.getMetaData().getColumnCount();
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = queryResult.getValue(i + 1, Object.class);
         }
+        return result;
     }
     
-    private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationProjection aggregationProjection) throws SQLException {
+    private static AggregationUnit[] createAggregationUnits(final List<AggregationProjection> aggregationProjections, final boolean approximateDistinctCount) {
+        AggregationUnit[] result = new AggregationUnit[aggregationProjections.size()];
+        for (int i = 0; i < result.length; i++) {
+            AggregationProjection aggregationProjection = aggregationProjections.get(i);
+            result[i] = AggregationUnitFactory.create(aggregationProjection.getType(), aggregationProjection instanceof AggregationDistinctProjection, approximateDistinctCount);
+        }
+        return result;
+    }
+    
+    private static Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationProjection aggregationProjection) throws SQLException {
         Object result = queryResult.getValue(aggregationProjection.getIndex(), Object.class);
         ShardingSpherePreconditions.checkState(null == result || result instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", result));
         return (Comparable<?>) result;
     }
     
-    private void setAggregationValueToMemoryRow(final SelectStatementContext selectStatementContext,
-                                                final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) {
-        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
-            for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
-                entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
-            }
+    private static MemoryQueryResultRow createMemoryQueryResultRow(final GroupByAggregationRow row, final List<AggregationProjection> aggregationProjections) {
+        MemoryQueryResultRow result = new MemoryQueryResultRow(row.getData());
+        for (int i = 0; i < aggregationProjections.size(); i++) {
+            result.setCell(aggregationProjections.get(i).getIndex(), row.getAggregationUnits()[i].getResult());
         }
+        return result;
     }
     
-    private List<Boolean> getValueCaseSensitive(final QueryResult queryResult, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+    private static List<Boolean> getValueCaseSensitive(final QueryResult queryResult, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
         List<Boolean> result = new ArrayList<>();
         result.add(false);
         for (int columnIndex = 1; columnIndex <= queryResult.getMetaData().getColumnCount(); columnIndex++) {
@@ -125,7 +211,7 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         return result;
     }
     
-    private boolean getValueCaseSensitiveFromTables(final QueryResult queryResult,
+    private static boolean getValueCaseSensitiveFromTables(final QueryResult queryResult,
                                                     final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema, final int columnIndex) throws SQLException {
         for (SimpleTableSegment each : selectStatementContext.getAllTables()) {
             String tableName = each.getTableName().getIdentifier().getValue();
@@ -139,18 +225,17 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         return false;
     }
     
-    private List<MemoryQueryResultRow> getMemoryResultSetRows(final SelectStatementContext selectStatementContext,
-                                                              final Map<GroupByValue, MemoryQueryResultRow> dataMap, final List<Boolean> valueCaseSensitive) {
-        if (dataMap.isEmpty()) {
+    private static List<MemoryQueryResultRow> getMemoryResultSetRows(final SelectStatementContext selectStatementContext,
+                                                                     final List<MemoryQueryResultRow> rows, final List<Boolean> valueCaseSensitive) {
+        if (rows.isEmpty()) {
             Object[] data = generateReturnData(selectStatementContext);
             return Arrays.stream(data).anyMatch(Objects::nonNull) ? Collections.singletonList(new MemoryQueryResultRow(data)) : Collections.emptyList();
         }
-        List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.values());
-        result.sort(new GroupByRowComparator(selectStatementContext, valueCaseSensitive));
-        return result;
+        rows.sort(new GroupByRowComparator(selectStatementContext, valueCaseSensitive));
+        return rows;
     }
     
-    private Object[] generateReturnData(final SelectStatementContext selectStatementContext) {
+    private static Object[] generateReturnData(final SelectStatementContext selectStatementContext) {
         List<Projection> projections = new LinkedList<>(selectStatementContext.getProjectionsContext().getExpandProjections());
         Object[] result = new Object[projections.size()];
         for (int i = 0; i < projections.size(); i++) {
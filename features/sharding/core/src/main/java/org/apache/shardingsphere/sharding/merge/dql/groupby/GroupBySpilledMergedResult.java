@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+/**
+ * Spilled merged result for group by.
+ * 
+ * <p>Merged groups of spilled aggregation runs are sorted by order by items into sorted runs with at most max memory rows,
+ * and rows are streamed from the sorted runs with k-way merge, so that groups are never loaded into memory at once.
+ * Sorted run files are unlinked once opened, they are released when readers are closed or collected even if merged result is not fully consumed.</p>
+ */
+public final class GroupBySpilledMergedResult implements MergedResult {
+    
+    private static final Collection<Class<?>> INVALID_MEMORY_TYPES = new HashSet<>(Arrays.asList(Blob.class, Clob.class, Reader.class, InputStream.class, SQLXML.class));
+    
+    private final int columnCount;
+    
+    private final PriorityQueue<SortedRunReader> sortedRunReaders;
+    
+    private MemoryQueryResultRow currentRow;
+    
+    private boolean wasNull;
+    
+    public GroupBySpilledMergedResult(final GroupByAggregationSpiller spiller, final Function<GroupByAggregationRow, MemoryQueryResultRow> rowCreator,
+                                      final Comparator<MemoryQueryResultRow> rowComparator, final int columnCount, final int maxMemoryRows) {
+        this.columnCount = columnCount;
+        sortedRunReaders = new PriorityQueue<>((o1, o2) -> rowComparator.compare(o1.getCurrent(), o2.getCurrent()));
+        for (Path each : createSortedRuns(spiller, rowCreator, rowComparator, maxMemoryRows)) {
+            SortedRunReader reader = new SortedRunReader(each);
+            if (reader.next()) {
+                sortedRunReaders.offer(reader);
+            } else {
+                reader.close();
+            }
+        }
+    }
+    
+    private Collection<Path> createSortedRuns(final GroupByAggregationSpiller spiller, final Function<GroupByAggregationRow, MemoryQueryResultRow> rowCreator,
+                                              final Comparator<MemoryQueryResultRow> rowComparator, final int maxMemoryRows) {
+        Collection<Path> result = new LinkedList<>();
+        List<MemoryQueryResultRow> rows = new ArrayList<>(maxMemoryRows);
+        spiller.merge(each -> {
+            rows.add(rowCreator.apply(each));
+            if (rows.size() >= maxMemoryRows) {
+                result.add(writeSortedRun(rows, rowComparator));
+                rows.clear();
+            }
+        });
+        if (!rows.isEmpty()) {
+            result.add(writeSortedRun(rows, rowComparator));
+        }
+        return result;
+    }
+    
+    @SneakyThrows(IOException.class)
+    private Path writeSortedRun(final List<MemoryQueryResultRow> rows, final Comparator<MemoryQueryResultRow> rowComparator) {
+        rows.sort(rowComparator);
+        Path result = Files.createTempFile("shardingsphere-group-by-", ".sorted");
+        try (ObjectOutputStream outputStream = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(result)))) {
+            outputStream.writeInt(rows.size());
+            Object[] data = new Object[columnCount];
+            for (MemoryQueryResultRow each : rows) {
+                for (int i = 0; i < columnCount; i++) {
+                    data[i] = each.getCell(i + 1);
+                }
+                outputStream.writeObject(data);
+                outputStream.reset();
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public boolean next() {
+        SortedRunReader reader = sortedRunReaders.poll();
+        if (null == reader) {
+            return false;
+        }
+        currentRow = reader.getCurrent();
+        if (reader.next()) {
+            sortedRunReaders.offer(reader);
+        } else {
+            reader.close();
+        }
+        return true;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        ShardingSpherePreconditions.checkState(!INVALID_MEMORY_TYPES.contains(type), () -> new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName())));
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        // TODO implement with calendar
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Get Character stream");
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    private static final class SortedRunReader {
+        
+        private final ObjectInputStream inputStream;
+        
+        private int remaining;
+        
+        @Getter
+        private MemoryQueryResultRow current;
+        
+        @SneakyThrows(IOException.class)
+        SortedRunReader(final Path sortedRunFile) {
+            inputStream = new ObjectInputStream(new BufferedInputStream(new FileInputStream(sortedRunFile.toFile())));
+            remaining = inputStream.readInt();
+            unlink(sortedRunFile);
+        }
+        
+        private void unlink(final Path sortedRunFile) {
+            try {
+                Files.deleteIfExists(sortedRunFile);
+            } catch (final IOException ignored) {
+                sortedRunFile.toFile().deleteOnExit();
+            }
+        }
+        
+        @SneakyThrows({IOException.class, ClassNotFoundException.class})
+        boolean next() {
+            if (0 == remaining) {
+                current = null;
+                return false;
+            }
+            remaining--;
+            current = new MemoryQueryResultRow((Object[]) inputStream.readObject());
+            return true;
+        }
+        
+        @SneakyThrows(IOException.class)
+        void close() {
+            inputStream.close();
+        }
+    }
+}
@@ -17,12 +17,15 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
+import java.io.Serializable;
 import java.util.List;
 
 /**
  * Aggregation unit interface.
+ * 
+ * <p>Aggregation unit is serializable so that partial aggregation states can be spilled to disk and combined later.</p>
  */
-public interface AggregationUnit {
+public interface AggregationUnit extends Serializable {
     
     /**
      * Merge aggregation values.
@@ -31,6 +34,13 @@ public interface AggregationUnit {
      */
     void merge(List<Comparable<?>> values);
     
+    /**
+     * Combine partial aggregation state of another aggregation unit with same type.
+     * 
+     * @param unit aggregation unit to be combined
+     */
+    void combine(AggregationUnit unit);
+    
     /**
      * Get aggregation result.
      * 
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Approximate distinct count aggregation unit.
+ * 
+ * <p>Distinct values are kept exactly until {@code EXACT_THRESHOLD} is exceeded, then they are folded into a HyperLogLog sketch
+ * with {@code 2^PRECISION} registers, so memory of each group is bounded and sketches of different groups or shards merge in constant time.
+ * The standard error of the estimate is about {@code 1.04 / sqrt(2^PRECISION)}.</p>
+ */
+@RequiredArgsConstructor
+public final class ApproximateDistinctCountAggregationUnit implements AggregationUnit {
+    
+    private static final long serialVersionUID = -2480158462127005133L;
+    
+    private static final int PRECISION = 12;
+    
+    private static final int REGISTER_SIZE = 1 << PRECISION;
+    
+    private static final int EXACT_THRESHOLD = REGISTER_SIZE / 8;
+    
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTER_SIZE);
+    
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+    
+    private Collection<Comparable<?>> values = new HashSet<>();
+    
+    private byte[] registers;
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0)) {
+            return;
+        }
+        add(values.get(0));
+    }
+    
+    private void add(final Comparable<?> value) {
+        if (null == registers) {
+            this.values.add(value);
+            if (this.values.size() > EXACT_THRESHOLD) {
+                foldToRegisters();
+            }
+            return;
+        }
+        addHash(hash(value));
+    }
+    
+    private void foldToRegisters() {
+        registers = new byte[REGISTER_SIZE];
+        for (Comparable<?> each : values) {
+            addHash(hash(each));
+        }
+        values = null;
+    }
+    
+    private long hash(final Comparable<?> value) {
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte || value instanceof BigInteger && ((BigInteger) value).bitLength() < 64) {
+            return HASH_FUNCTION.hashLong(((Number) value).longValue()).asLong();
+        }
+        return HASH_FUNCTION.hashString(value.toString(), StandardCharsets.UTF_8).asLong();
+    }
+    
+    private void addHash(final long hash) {
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        byte rank = (byte) (Long.numberOfLeadingZeros(hash << PRECISION | 1L << (PRECISION - 1)) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+    
+    @Override
+    public void combine(final AggregationUnit unit) {
+        ApproximateDistinctCountAggregationUnit approximateUnit = (ApproximateDistinctCountAggregationUnit) unit;
+        if (null == approximateUnit.registers) {
+            for (Comparable<?> each : approximateUnit.values) {
+                add(each);
+            }
+            return;
+        }
+        if (null == registers) {
+            foldToRegisters();
+        }
+        for (int i = 0; i < REGISTER_SIZE; i++) {
+            if (approximateUnit.registers[i] > registers[i]) {
+                registers[i] = approximateUnit.registers[i];
+            }
+        }
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        if (null == registers) {
+            return values.size();
+        }
+        double sum = 0D;
+        int zeroRegisters = 0;
+        for (byte each : registers) {
+            sum += 1D / (1L << each);
+            if (0 == each) {
+                zeroRegisters++;
+            }
+        }
+        double estimate = ALPHA * REGISTER_SIZE * REGISTER_SIZE / sum;
+        if (estimate <= 2.5D * REGISTER_SIZE && zeroRegisters > 0) {
+            estimate = REGISTER_SIZE * Math.log((double) REGISTER_SIZE / zeroRegisters);
+        }
+        return (int) Math.min(Math.round(estimate), Integer.MAX_VALUE);
+    }
+}
@@ -21,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -29,6 +30,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class AverageAggregationUnit implements AggregationUnit {
     
+    private static final long serialVersionUID = 2784249659845191438L;
+    
     private BigDecimal count;
     
     private BigDecimal sum;
@@ -48,6 +51,12 @@ public final class AverageAggregationUnit implements AggregationUnit {
         sum = sum.add(new BigDecimal(values.get(1).toString()));
     }
     
+    @Override
+    public void combine(final AggregationUnit unit) {
+        AverageAggregationUnit averageAggregationUnit = (AverageAggregationUnit) unit;
+        merge(Arrays.asList(averageAggregationUnit.count, averageAggregationUnit.sum));
+    }
+    
     @Override
     public Comparable<?> getResult() {
         if (null == count || BigDecimal.ZERO.equals(count)) {
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 import lombok.RequiredArgsConstructor;
 
 import java.math.BigInteger;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -28,6 +29,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class BitXorAggregationUnit implements AggregationUnit {
     
+    private static final long serialVersionUID = -8531699129511414324L;
+    
     private BigInteger result;
     
     @Override
@@ -41,6 +44,11 @@ public final class BitXorAggregationUnit implements AggregationUnit {
         result = result.xor(new BigInteger(values.get(0).toString()));
     }
     
+    @Override
+    public void combine(final AggregationUnit unit) {
+        merge(Collections.singletonList(((BitXorAggregationUnit) unit).result));
+    }
+    
     @Override
     public Comparable<?> getResult() {
         return result;
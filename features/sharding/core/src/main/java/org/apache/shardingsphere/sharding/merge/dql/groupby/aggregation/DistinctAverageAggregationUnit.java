@@ -21,7 +21,10 @@ import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 
@@ -31,20 +34,23 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class DistinctAverageAggregationUnit implements AggregationUnit {
     
+    private static final long serialVersionUID = 8258772313671944433L;
+    
     private BigDecimal count;
     
     private BigDecimal sum;
     
     private final Collection<Comparable<?>> countValues = new LinkedHashSet<>();
     
-    private final Collection<Comparable<?>> sumValues = new LinkedHashSet<>();
+    private final List<Comparable<?>> sumValues = new ArrayList<>();
     
     @Override
     public void merge(final List<Comparable<?>> values) {
         if (null == values || null == values.get(0) || null == values.get(1)) {
             return;
         }
-        if (countValues.add(values.get(0)) && sumValues.add(values.get(0))) {
+        if (countValues.add(values.get(0))) {
+            sumValues.add(values.get(1));
             if (null == count) {
                 count = BigDecimal.ZERO;
             }
@@ -56,6 +62,15 @@ public final class DistinctAverageAggregationUnit implements AggregationUnit {
         }
     }
     
+    @Override
+    public void combine(final AggregationUnit unit) {
+        DistinctAverageAggregationUnit distinctAverageAggregationUnit = (DistinctAverageAggregationUnit) unit;
+        Iterator<Comparable<?>> sumValueIterator = distinctAverageAggregationUnit.sumValues.iterator();
+        for (Comparable<?> each : distinctAverageAggregationUnit.countValues) {
+            merge(Arrays.asList(each, sumValueIterator.next()));
+        }
+    }
+    
     @Override
     public Comparable<?> getResult() {
         if (null == count || BigDecimal.ZERO.equals(count)) {
@@ -29,6 +29,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class DistinctCountAggregationUnit implements AggregationUnit {
     
+    private static final long serialVersionUID = 1577960769301841103L;
+    
     private final Collection<Comparable<?>> values = new HashSet<>();
     
     @Override
@@ -39,6 +41,11 @@ public final class DistinctCountAggregationUnit implements AggregationUnit {
         this.values.add(values.get(0));
     }
     
+    @Override
+    public void combine(final AggregationUnit unit) {
+        values.addAll(((DistinctCountAggregationUnit) unit).values);
+    }
+    
     @Override
     public Comparable<?> getResult() {
         return values.size();
@@ -21,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 
@@ -30,6 +31,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class DistinctSumAggregationUnit implements AggregationUnit {
     
+    private static final long serialVersionUID = 8785356068037452444L;
+    
     private BigDecimal result;
     
     private final Collection<Comparable<?>> values = new HashSet<>();
@@ -47,6 +50,13 @@ public final class DistinctSumAggregationUnit implements AggregationUnit {
         }
     }
     
+    @Override
+    public void combine(final AggregationUnit unit) {
+        for (Comparable<?> each : ((DistinctSumAggregationUnit) unit).values) {
+            merge(Collections.singletonList(each));
+        }
+    }
+    
     @Override
     public Comparable<?> getResult() {
         return result;
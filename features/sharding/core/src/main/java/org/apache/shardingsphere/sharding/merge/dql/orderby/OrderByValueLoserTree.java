@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Loser tree of order by values.
+ * 
+ * <p>Each internal node keeps the loser of the match played below it and the overall winner is kept at the root,
+ * so replacing the winner by its next row replays only the path from its leaf to the root.</p>
+ */
+public final class OrderByValueLoserTree {
+    
+    private final OrderByValue[] orderByValues;
+    
+    private final int[] losers;
+    
+    private int winner;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) {
+        this.orderByValues = orderByValues.toArray(new OrderByValue[0]);
+        losers = new int[this.orderByValues.length];
+        winner = build();
+    }
+    
+    private int build() {
+        int leafCount = orderByValues.length;
+        if (leafCount < 2) {
+            return 0;
+        }
+        int[] winners = new int[leafCount * 2];
+        for (int i = 0; i < leafCount; i++) {
+            winners[leafCount + i] = i;
+        }
+        for (int node = leafCount - 1; node > 0; node--) {
+            int left = winners[node * 2];
+            int right = winners[node * 2 + 1];
+            boolean leftWins = !beats(right, left);
+            winners[node] = leftWins ? left : right;
+            losers[node] = leftWins ? right : left;
+        }
+        return winners[1];
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     *
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == orderByValues.length || null == orderByValues[winner];
+    }
+    
+    /**
+     * Get current minimum order by value.
+     *
+     * @return current minimum order by value, null if empty
+     */
+    public OrderByValue peek() {
+        return 0 == orderByValues.length ? null : orderByValues[winner];
+    }
+    
+    /**
+     * Move current minimum order by value to its next row and replay the matches on its path.
+     *
+     * @return has next order by value or not
+     * @throws SQLException SQL exception
+     */
+    public boolean next() throws SQLException {
+        if (isEmpty()) {
+            return false;
+        }
+        if (!orderByValues[winner].next()) {
+            orderByValues[winner] = null;
+        }
+        replay(winner);
+        return !isEmpty();
+    }
+    
+    private void replay(final int leaf) {
+        int result = leaf;
+        for (int node = (orderByValues.length + leaf) / 2; node > 0; node /= 2) {
+            if (beats(losers[node], result)) {
+                int loser = result;
+                result = losers[node];
+                losers[node] = loser;
+            }
+        }
+        winner = result;
+    }
+    
+    private boolean beats(final int index, final int otherIndex) {
+        if (null == orderByValues[index]) {
+            return false;
+        }
+        if (null == orderByValues[otherIndex]) {
+            return true;
+        }
+        return orderByValues[index].compareTo(orderByValues[otherIndex]) < 0;
+    }
+}
@@ -28,20 +28,20 @@ import java.sql.SQLException;
  */
 public final class LimitDecoratorMergedResult extends DecoratorMergedResult {
     
-    private final PaginationContext paginationContext;
+    private final long rowCount;
     
     private final boolean skipAll;
     
-    private int rowNumber;
+    private long rowNumber;
     
     public LimitDecoratorMergedResult(final MergedResult mergedResult, final PaginationContext paginationContext) throws SQLException {
         super(mergedResult);
-        this.paginationContext = paginationContext;
-        skipAll = skipOffset();
+        rowCount = paginationContext.getActualRowCount().orElse(-1L);
+        skipAll = skipOffset(paginationContext.getActualOffset());
     }
     
-    private boolean skipOffset() throws SQLException {
-        for (int i = 0; i < paginationContext.getActualOffset(); i++) {
+    private boolean skipOffset(final long offset) throws SQLException {
+        for (long i = 0L; i < offset; i++) {
             if (!getMergedResult().next()) {
                 return true;
             }
@@ -55,9 +55,13 @@ public final class LimitDecoratorMergedResult extends DecoratorMergedResult {
         if (skipAll) {
             return false;
         }
-        if (!paginationContext.getActualRowCount().isPresent()) {
+        if (rowCount < 0L) {
             return getMergedResult().next();
         }
-        return ++rowNumber <= paginationContext.getActualRowCount().get() && getMergedResult().next();
+        if (rowNumber >= rowCount) {
+            return false;
+        }
+        rowNumber++;
+        return getMergedResult().next();
     }
 }
@@ -101,6 +101,8 @@ public final class ShardingRule implements DatabaseRule {
     
     private final Map<String, ShardingTable> shardingTables = new CaseInsensitiveMap<>();
     
+    private final Map<String, ShardingTable> actualTableShardingTables = new CaseInsensitiveMap<>();
+    
     private final Map<String, BindingTableRule> bindingTableRules = new CaseInsensitiveMap<>();
     
     private final ShardingStrategyConfiguration defaultDatabaseShardingStrategyConfig;
@@ -127,6 +129,7 @@ public final class ShardingRule implements DatabaseRule {
         shardingTables.putAll(createShardingTables(ruleConfig.getTables(), ruleConfig.getDefaultKeyGenerateStrategy()));
         shardingTables.putAll(createShardingAutoTables(ruleConfig.getAutoTables(), ruleConfig.getDefaultKeyGenerateStrategy()));
         validateUniqueActualDataNodesInTableRules();
+        actualTableShardingTables.putAll(createActualTableShardingTables());
         // 绑定表
         bindingTableRules.putAll(createBindingTableRules(ruleConfig.getBindingTableGroups()));
         // 创建默认的分库规则
@@ -146,7 +149,7 @@ public final class ShardingRule implements DatabaseRule {
             ((InstanceContextAware) defaultKeyGenerateAlgorithm).setInstanceContext(instanceContext);
         }
         shardingCache = null == ruleConfig.getShardingCache() ? null : new ShardingCache(ruleConfig.getShardingCache(), this);
-        attributes = new RuleAttributes(new ShardingDataNodeRuleAttribute(shardingTables), new ShardingTableNamesRuleAttribute(shardingTables.values()));
+        attributes = new RuleAttributes(new ShardingDataNodeRuleAttribute(shardingTables, actualTableShardingTables), new ShardingTableNamesRuleAttribute(shardingTables.values()));
     }
     
     private void validateUniqueActualDataNodesInTableRules() {
@@ -159,6 +162,16 @@ public final class ShardingRule implements DatabaseRule {
         });
     }
     
+    private Map<String, ShardingTable> createActualTableShardingTables() {
+        Map<String, ShardingTable> result = new CaseInsensitiveMap<>();
+        for (ShardingTable each : shardingTables.values()) {
+            for (DataNode dataNode : each.getActualDataNodes()) {
+                result.putIfAbsent(dataNode.getTableName(), each);
+            }
+        }
+        return result;
+    }
+    
     private ShardingStrategyConfiguration createDefaultDatabaseShardingStrategyConfiguration(final ShardingRuleConfiguration ruleConfig) {
         Optional.ofNullable(ruleConfig.getDefaultDatabaseShardingStrategy()).ifPresent(optional -> checkManualShardingAlgorithm(optional.getShardingAlgorithmName(), "default"));
         return null == ruleConfig.getDefaultDatabaseShardingStrategy() ? new NoneShardingStrategyConfiguration() : ruleConfig.getDefaultDatabaseShardingStrategy();
@@ -375,12 +388,7 @@ public final class ShardingRule implements DatabaseRule {
      * @return sharding table
      */
     public Optional<ShardingTable> findShardingTableByActualTable(final String actualTableName) {
-        for (ShardingTable each : shardingTables.values()) {
-            if (each.isExisted(actualTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.empty();
+        return Optional.ofNullable(actualTableShardingTables.get(actualTableName));
     }
     
     /**
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.sharding.rule.ShardingTable;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -36,10 +37,13 @@ public final class ShardingDataNodeRuleAttribute implements DataNodeRuleAttribut
     
     private final Map<String, ShardingTable> shardingTables;
     
+    private final Map<String, ShardingTable> actualTableShardingTables;
+    
     private final Map<String, Collection<DataNode>> tableDataNodes;
     
-    public ShardingDataNodeRuleAttribute(final Map<String, ShardingTable> shardingTables) {
+    public ShardingDataNodeRuleAttribute(final Map<String, ShardingTable> shardingTables, final Map<String, ShardingTable> actualTableShardingTables) {
         this.shardingTables = shardingTables;
+        this.actualTableShardingTables = actualTableShardingTables;
         tableDataNodes = createShardingTableDataNodes(shardingTables);
     }
     
@@ -90,16 +94,19 @@ public final class ShardingDataNodeRuleAttribute implements DataNodeRuleAttribut
     
     @Override
     public Optional<String> findLogicTableByActualTable(final String actualTable) {
-        return findShardingTableByActualTable(actualTable).map(ShardingTable::getLogicTable);
+        return Optional.ofNullable(actualTableShardingTables.get(actualTable)).map(ShardingTable::getLogicTable);
     }
     
-    private Optional<ShardingTable> findShardingTableByActualTable(final String actualTableName) {
-        for (ShardingTable each : shardingTables.values()) {
-            if (each.isExisted(actualTableName)) {
-                return Optional.of(each);
+    @Override
+    public Map<String, String> findLogicTablesByActualTables(final Collection<String> actualTables) {
+        Map<String, String> result = new LinkedHashMap<>(actualTables.size(), 1F);
+        for (String each : actualTables) {
+            ShardingTable shardingTable = actualTableShardingTables.get(each);
+            if (null != shardingTable) {
+                result.put(each, shardingTable.getLogicTable());
             }
         }
-        return Optional.empty();
+        return result;
     }
     
     @Override
@@ -44,6 +44,7 @@ import java.time.format.DateTimeFormatter;
 import java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.Properties;
 
@@ -306,6 +307,21 @@ class IntervalShardingAlgorithmTest {
         assertThat(actualAsString.size(), is(7));
     }
     
+    @Test
+    void assertRangeDoShardingWithAlternatingAvailableTargetNames() {
+        Collection<String> firstAvailableTargetNames = new LinkedList<>();
+        Collection<String> secondAvailableTargetNames = new LinkedList<>();
+        for (int i = 1; i <= 6; i++) {
+            firstAvailableTargetNames.add(String.format("t_order_2019%02d", i));
+            secondAvailableTargetNames.add(String.format("t_order_2019%02d", i + 6));
+        }
+        RangeShardingValue<Comparable<?>> shardingValue = createShardingValue("2019-01-01 00:00:00", "2019-12-31 00:00:00");
+        for (int i = 0; i < 2; i++) {
+            assertThat(shardingAlgorithmByMonth.doSharding(firstAvailableTargetNames, shardingValue), is(new HashSet<>(firstAvailableTargetNames)));
+            assertThat(shardingAlgorithmByMonth.doSharding(secondAvailableTargetNames, shardingValue), is(new HashSet<>(secondAvailableTargetNames)));
+        }
+    }
+    
     private IntervalShardingAlgorithm createAlgorithm(final String datetimePattern, final String datetimeLower,
                                                       final String datetimeUpper, final String shardingSuffixPattern,
                                                       final Integer datetimeIntervalAmount, final String datetimeIntervalUnit) {
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.datetime;
+
+import com.google.common.collect.Range;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.NavigableMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntervalShardingIndexTest {
+    
+    @Test
+    void assertCreateIntervals() {
+        NavigableMap<LocalDate, Range<LocalDate>> actual = IntervalShardingIndex.createIntervals(LocalDate.of(2021, 1, 1), LocalDate.of(2021, 1, 10), each -> each.plus(3L, ChronoUnit.DAYS));
+        assertThat(actual.size(), is(4));
+        assertThat(actual.lastEntry().getValue(), is(Range.closedOpen(LocalDate.of(2021, 1, 10), LocalDate.of(2021, 1, 13))));
+    }
+    
+    @Test
+    void assertCreateIntervalsWithWrappedDateTime() {
+        NavigableMap<LocalTime, Range<LocalTime>> actual = IntervalShardingIndex.createIntervals(LocalTime.of(20, 0), LocalTime.of(23, 0), each -> each.plus(2L, ChronoUnit.HOURS));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.lastEntry().getValue(), is(Range.atLeast(LocalTime.of(22, 0))));
+    }
+    
+    @Test
+    void assertGetTargetNames() {
+        LocalDate lower = LocalDate.of(2021, 1, 1);
+        LocalDate upper = LocalDate.of(2021, 1, 31);
+        IntervalShardingIndex<LocalDate> index = new IntervalShardingIndex<>(lower, upper, IntervalShardingIndex.createIntervals(lower, upper, each -> each.plus(1L, ChronoUnit.DAYS)),
+                DateTimeFormatter.ofPattern("yyyyMMdd"), each -> LocalDate.parse(each.toString()));
+        Collection<String> availableTargetNames = Arrays.asList("t_order_20210101", "t_order_20210102", "t_order_20210103", "t_order_20210131");
+        assertThat(index.getTargetNames(availableTargetNames, Range.singleton("2021-01-02")).size(), is(1));
+        assertTrue(index.getTargetNames(availableTargetNames, Range.singleton("2021-01-02")).contains("t_order_20210102"));
+        assertThat(index.getTargetNames(availableTargetNames, Range.closedOpen("2021-01-01", "2021-01-03")).size(), is(2));
+        assertThat(index.getTargetNames(availableTargetNames, Range.atLeast("2021-01-03")).size(), is(2));
+        assertThat(index.getTargetNames(availableTargetNames, Range.closed("2021-02-01", "2021-02-05")).size(), is(0));
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ModuloInlineShardingExpressionTest {
+    
+    @Test
+    void assertCompileWithUnsupportedExpression() {
+        assertFalse(ModuloInlineShardingExpression.compile("t_order_${order_id}").isPresent());
+        assertFalse(ModuloInlineShardingExpression.compile("t_order_${order_id % 0}").isPresent());
+        assertFalse(ModuloInlineShardingExpression.compile("t_order_${order_id % 4).abs()}").isPresent());
+        assertFalse(ModuloInlineShardingExpression.compile("t_order_${it % 4}").isPresent());
+        assertFalse(ModuloInlineShardingExpression.compile("t_${user_id % 2}_${order_id % 4}").isPresent());
+        assertFalse(ModuloInlineShardingExpression.compile("<LITERAL>t_order_${order_id % 4}").isPresent());
+    }
+    
+    @Test
+    void assertEvaluateModulo() {
+        ModuloInlineShardingExpression expression = ModuloInlineShardingExpression.compile("t_order_${ order_id % 4 }").orElseThrow(IllegalStateException::new);
+        assertThat(expression.evaluate("order_id", 5), is(Optional.of("t_order_1")));
+        assertThat(expression.evaluate("order_id", -5), is(Optional.of("t_order_-1")));
+        assertThat(expression.evaluate("order_id", 787694822390497281L), is(Optional.of("t_order_1")));
+        assertFalse(expression.evaluate("order_id", new BigInteger("5")).isPresent());
+        assertFalse(expression.evaluate("user_id", 5).isPresent());
+    }
+    
+    @Test
+    void assertEvaluateAbsModulo() {
+        assertThat(ModuloInlineShardingExpression.compile("t_order_${(order_id % 4).abs()}").orElseThrow(IllegalStateException::new).evaluate("order_id", -5), is(Optional.of("t_order_1")));
+        assertThat(ModuloInlineShardingExpression.compile("<GROOVY>t_order_${Math.abs(order_id % 4)}_bak").orElseThrow(IllegalStateException::new).evaluate("order_id", -5),
+                is(Optional.of("t_order_1_bak")));
+    }
+    
+    @Test
+    void assertEvaluateHashCodeModulo() {
+        Optional<ModuloInlineShardingExpression> expression = ModuloInlineShardingExpression.compile("t_order_${Math.abs(order_id.hashCode() % 16)}");
+        assertTrue(expression.isPresent());
+        assertThat(expression.get().evaluate("order_id", "foo"), is(Optional.of("t_order_" + Math.abs("foo".hashCode() % 16))));
+    }
+}
@@ -18,11 +18,17 @@
 package org.apache.shardingsphere.sharding.cache.route.cache;
 
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -36,4 +42,34 @@ class ShardingRouteCacheTest {
         cache.put(key, new ShardingRouteCacheValue(new RouteContext()));
         assertTrue(cache.get(key).isPresent());
     }
+    
+    @Test
+    void assertPutMultiShardRouteContextSnapshot() {
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper("t", "t_0"))));
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_1", "ds_1"), Collections.singletonList(new RouteMapper("t", "t_1"))));
+        ShardingRouteCacheValue value = new ShardingRouteCacheValue(routeContext);
+        assertThat(value.getWeight(), is(2));
+        ShardingRouteCache cache = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(true, 1, 1));
+        ShardingRouteCacheKey key = new ShardingRouteCacheKey("select name from t", Collections.emptyList());
+        cache.put(key, value);
+        routeContext.getRouteUnits().clear();
+        RouteContext actual = cache.get(key).flatMap(ShardingRouteCacheValue::getCachedRouteContext).orElseThrow(IllegalStateException::new);
+        assertThat(actual.getRouteUnits().size(), is(2));
+        actual.getRouteUnits().clear();
+        assertThat(cache.get(key).flatMap(ShardingRouteCacheValue::getCachedRouteContext).orElseThrow(IllegalStateException::new).getRouteUnits().size(), is(2));
+        assertThat(actual, not(routeContext));
+    }
+    
+    @Test
+    void assertRecordStatistics() {
+        ShardingRouteCache cache = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(true, 1, 1));
+        cache.recordStatistics(Arrays.asList("t_order", "T_ITEM"), false);
+        cache.recordStatistics(Collections.singletonList("t_order"), true);
+        assertThat(cache.getStatistics().size(), is(2));
+        assertThat(cache.getStatistics().get("t_order").getHitCount(), is(1L));
+        assertThat(cache.getStatistics().get("t_order").getMissCount(), is(1L));
+        assertThat(cache.getStatistics().get("t_order").getHitRate(), is(0.5D));
+        assertThat(cache.getStatistics().get("t_item").getHitRate(), is(0D));
+    }
 }
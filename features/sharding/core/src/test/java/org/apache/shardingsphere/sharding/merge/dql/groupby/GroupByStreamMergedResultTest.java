@@ -53,11 +53,15 @@ import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -74,23 +78,9 @@ class GroupByStreamMergedResultTest {
     
     @Test
     void assertNextForSomeResultSetsEmpty() throws SQLException {
-        QueryResult queryResult1 = mockQueryResult();
-        when(queryResult1.next()).thenReturn(true, false);
-        when(queryResult1.getValue(1, Object.class)).thenReturn(20);
-        when(queryResult1.getValue(2, Object.class)).thenReturn(0);
-        when(queryResult1.getValue(3, Object.class)).thenReturn(2);
-        when(queryResult1.getValue(4, Object.class)).thenReturn(new Date(0L));
-        when(queryResult1.getValue(5, Object.class)).thenReturn(2);
-        when(queryResult1.getValue(6, Object.class)).thenReturn(20);
+        QueryResult queryResult1 = mockQueryResult(Arrays.asList(20, 0, 2, new Date(0L), 2, 20));
         QueryResult queryResult2 = mockQueryResult();
-        QueryResult queryResult3 = mockQueryResult();
-        when(queryResult3.next()).thenReturn(true, true, false);
-        when(queryResult3.getValue(1, Object.class)).thenReturn(20, 30);
-        when(queryResult3.getValue(2, Object.class)).thenReturn(0);
-        when(queryResult3.getValue(3, Object.class)).thenReturn(2, 2, 3);
-        when(queryResult3.getValue(4, Object.class)).thenReturn(new Date(0L));
-        when(queryResult3.getValue(5, Object.class)).thenReturn(2, 2, 3);
-        when(queryResult3.getValue(6, Object.class)).thenReturn(20, 20, 30);
+        QueryResult queryResult3 = mockQueryResult(Arrays.asList(20, 0, 2, new Date(0L), 2, 20), Arrays.asList(30, 0, 3, new Date(0L), 3, 30));
         ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
         MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2, queryResult3), createSelectStatementContext(), createDatabase(), mock(ConnectionContext.class));
         assertTrue(actual.next());
@@ -112,27 +102,9 @@ class GroupByStreamMergedResultTest {
     
     @Test
     void assertNextForMix() throws SQLException {
-        QueryResult queryResult1 = mockQueryResult();
-        when(queryResult1.next()).thenReturn(true, false);
-        when(queryResult1.getValue(1, Object.class)).thenReturn(20);
-        when(queryResult1.getValue(2, Object.class)).thenReturn(0);
-        when(queryResult1.getValue(3, Object.class)).thenReturn(2);
-        when(queryResult1.getValue(5, Object.class)).thenReturn(2);
-        when(queryResult1.getValue(6, Object.class)).thenReturn(20);
-        QueryResult queryResult2 = mockQueryResult();
-        when(queryResult2.next()).thenReturn(true, true, true, false);
-        when(queryResult2.getValue(1, Object.class)).thenReturn(20, 30, 40);
-        when(queryResult2.getValue(2, Object.class)).thenReturn(0);
-        when(queryResult2.getValue(3, Object.class)).thenReturn(2, 2, 3, 3, 3, 4);
-        when(queryResult2.getValue(5, Object.class)).thenReturn(2, 2, 3, 3, 3, 4);
-        when(queryResult2.getValue(6, Object.class)).thenReturn(20, 20, 30, 30, 30, 40);
-        QueryResult queryResult3 = mockQueryResult();
-        when(queryResult3.next()).thenReturn(true, true, false);
-        when(queryResult3.getValue(1, Object.class)).thenReturn(10, 30);
-        when(queryResult3.getValue(2, Object.class)).thenReturn(10);
-        when(queryResult3.getValue(3, Object.class)).thenReturn(1, 1, 1, 1, 3);
-        when(queryResult3.getValue(5, Object.class)).thenReturn(1, 1, 3);
-        when(queryResult3.getValue(6, Object.class)).thenReturn(10, 10, 30);
+        QueryResult queryResult1 = mockQueryResult(Arrays.asList(20, 0, 2, null, 2, 20));
+        QueryResult queryResult2 = mockQueryResult(Arrays.asList(20, 0, 2, null, 2, 20), Arrays.asList(30, 0, 3, null, 3, 30), Arrays.asList(40, 0, 4, null, 4, 40));
+        QueryResult queryResult3 = mockQueryResult(Arrays.asList(10, 10, 1, null, 1, 10), Arrays.asList(30, 10, 3, null, 3, 30));
         ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
         MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2, queryResult3), createSelectStatementContext(), createDatabase(), mock(ConnectionContext.class));
         assertTrue(actual.next());
@@ -206,4 +178,13 @@ class GroupByStreamMergedResultTest {
         when(result.getMetaData().getColumnName(3)).thenReturn("col3");
         return result;
     }
+    
+    @SafeVarargs
+    private final QueryResult mockQueryResult(final List<Object>... rows) throws SQLException {
+        QueryResult result = mockQueryResult();
+        AtomicInteger rowIndex = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(invocation -> rowIndex.incrementAndGet() < rows.length);
+        when(result.getValue(anyInt(), eq(Object.class))).thenAnswer(invocation -> rows[rowIndex.get()].get(invocation.<Integer>getArgument(0) - 1));
+        return result;
+    }
 }
@@ -36,4 +36,15 @@ class AccumulationAggregationUnitTest {
         accumulationAggregationUnit.merge(Collections.singletonList(10));
         assertThat(((Number) accumulationAggregationUnit.getResult()).intValue(), is(12));
     }
+    
+    @Test
+    void assertCombine() {
+        AccumulationAggregationUnit accumulationAggregationUnit = new AccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(Collections.singletonList(1));
+        AccumulationAggregationUnit otherAccumulationAggregationUnit = new AccumulationAggregationUnit();
+        otherAccumulationAggregationUnit.merge(Collections.singletonList(10));
+        accumulationAggregationUnit.combine(otherAccumulationAggregationUnit);
+        accumulationAggregationUnit.combine(new AccumulationAggregationUnit());
+        assertThat(((Number) accumulationAggregationUnit.getResult()).intValue(), is(11));
+    }
 }
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+
+class ApproximateDistinctCountAggregationUnitTest {
+    
+    @Test
+    void assertExactDistinctCount() {
+        ApproximateDistinctCountAggregationUnit aggregationUnit = new ApproximateDistinctCountAggregationUnit();
+        aggregationUnit.merge(null);
+        aggregationUnit.merge(Collections.singletonList(null));
+        aggregationUnit.merge(Collections.singletonList(1));
+        aggregationUnit.merge(Collections.singletonList(1));
+        aggregationUnit.merge(Collections.singletonList(10));
+        assertThat(aggregationUnit.getResult(), is(2));
+    }
+    
+    @Test
+    void assertApproximateDistinctCount() {
+        ApproximateDistinctCountAggregationUnit aggregationUnit = new ApproximateDistinctCountAggregationUnit();
+        for (long i = 0L; i < 100000L; i++) {
+            aggregationUnit.merge(Collections.singletonList(i));
+            aggregationUnit.merge(Collections.singletonList(i % 100L));
+        }
+        assertThat((Integer) aggregationUnit.getResult(), allOf(greaterThan(95000), lessThan(105000)));
+    }
+    
+    @Test
+    void assertCombine() {
+        ApproximateDistinctCountAggregationUnit aggregationUnit = new ApproximateDistinctCountAggregationUnit();
+        ApproximateDistinctCountAggregationUnit otherAggregationUnit = new ApproximateDistinctCountAggregationUnit();
+        for (int i = 0; i < 50000; i++) {
+            aggregationUnit.merge(Collections.singletonList("foo_" + i));
+            otherAggregationUnit.merge(Collections.singletonList("foo_" + (i + 25000)));
+        }
+        aggregationUnit.combine(otherAggregationUnit);
+        aggregationUnit.combine(new ApproximateDistinctCountAggregationUnit());
+        assertThat((Integer) aggregationUnit.getResult(), allOf(greaterThan(71250), lessThan(78750)));
+    }
+}
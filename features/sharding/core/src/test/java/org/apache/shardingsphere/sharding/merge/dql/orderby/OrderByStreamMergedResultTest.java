@@ -202,6 +202,32 @@ class OrderByStreamMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    void assertNextForMultipleResultSetsWithIntegralValues() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(mock(QueryResult.class), mock(QueryResult.class), mock(QueryResult.class), mock(QueryResult.class), mock(QueryResult.class));
+        for (QueryResult each : queryResults) {
+            QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+            when(each.getMetaData()).thenReturn(metaData);
+            when(metaData.getColumnName(1)).thenReturn("col1");
+            when(metaData.getColumnName(2)).thenReturn("col2");
+        }
+        when(queryResults.get(0).next()).thenReturn(true, true, false);
+        when(queryResults.get(0).getValue(1, Object.class)).thenReturn(3, 3, 9, 9);
+        when(queryResults.get(1).next()).thenReturn(true, false);
+        when(queryResults.get(1).getValue(1, Object.class)).thenReturn(5L);
+        when(queryResults.get(3).next()).thenReturn(true, true, true, false);
+        when(queryResults.get(3).getValue(1, Object.class)).thenReturn((short) 1, (short) 1, 4L, 4L, 8, 8);
+        when(queryResults.get(4).next()).thenReturn(true, true, false);
+        when(queryResults.get(4).getValue(1, Object.class)).thenReturn(2L, 2L, 7, 7);
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+        MergedResult actual = resultMerger.merge(queryResults, selectStatementContext, createDatabase(), mock(ConnectionContext.class));
+        for (long each : new long[]{1L, 2L, 3L, 4L, 5L, 7L, 8L, 9L}) {
+            assertTrue(actual.next());
+            assertThat(((Number) actual.getValue(1, Object.class)).longValue(), is(each));
+        }
+        assertFalse(actual.next());
+    }
+    
     private ShardingSphereDatabase createDatabase() {
         ShardingSphereColumn column1 = new ShardingSphereColumn("col1", 0, false, false, true, true, false, false);
         ShardingSphereColumn column2 = new ShardingSphereColumn("col2", 0, false, false, false, true, false, false);
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.pagination;
 
+import org.apache.shardingsphere.infra.binder.context.segment.select.pagination.PaginationContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
@@ -39,11 +40,14 @@ import org.junit.jupiter.api.Test;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class LimitDecoratorMergedResultTest {
@@ -95,6 +99,21 @@ class LimitDecoratorMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    void assertNextWithoutReadingMergedResultAfterRowCountReached() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true);
+        PaginationContext paginationContext = mock(PaginationContext.class);
+        when(paginationContext.getActualOffset()).thenReturn(1L);
+        when(paginationContext.getActualRowCount()).thenReturn(Optional.of(2L));
+        MergedResult actual = new LimitDecoratorMergedResult(mergedResult, paginationContext);
+        assertTrue(actual.next());
+        assertTrue(actual.next());
+        assertFalse(actual.next());
+        assertFalse(actual.next());
+        verify(mergedResult, times(3)).next();
+    }
+    
     private ShardingSphereMetaData createShardingSphereMetaData(final ShardingSphereDatabase database) {
         return new ShardingSphereMetaData(Collections.singletonMap(DefaultDatabase.LOGIC_NAME, database), mock(ResourceMetaData.class),
                 mock(RuleMetaData.class), mock(ConfigurationProperties.class));
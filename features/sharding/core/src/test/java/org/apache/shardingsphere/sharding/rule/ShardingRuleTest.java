@@ -194,6 +194,13 @@ class ShardingRuleTest {
         assertTrue(createMaximumShardingRule().findShardingTableByActualTable("table_0").isPresent());
     }
     
+    @Test
+    void assertFindTableRuleByActualTableIgnoreCase() {
+        Optional<ShardingTable> actual = createMaximumShardingRule().findShardingTableByActualTable("SUB_TABLE_1");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getLogicTable(), is("SUB_LOGIC_TABLE"));
+    }
+    
     @Test
     void assertNotFindTableRuleByActualTable() {
         assertFalse(createMaximumShardingRule().findShardingTableByActualTable("table_3").isPresent());
@@ -204,6 +211,15 @@ class ShardingRuleTest {
         assertTrue(createMaximumShardingRule().getAttributes().getAttribute(DataNodeRuleAttribute.class).findLogicTableByActualTable("table_0").isPresent());
     }
     
+    @Test
+    void assertFindLogicTablesByActualTables() {
+        Map<String, String> actual = createMaximumShardingRule().getAttributes().getAttribute(DataNodeRuleAttribute.class)
+                .findLogicTablesByActualTables(Arrays.asList("table_0", "SUB_TABLE_2", "table_3"));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("table_0"), is("LOGIC_TABLE"));
+        assertThat(actual.get("SUB_TABLE_2"), is("SUB_LOGIC_TABLE"));
+    }
+    
     @Test
     void assertNotFindLogicTableByActualTable() {
         assertFalse(createMaximumShardingRule().getAttributes().getAttribute(DataNodeRuleAttribute.class).findLogicTableByActualTable("table_3").isPresent());
@@ -282,3 +282,7 @@ NONE
 PLUGINS
     : P L U G I N S
     ;
+
+CACHE
+    : C A C H E
+    ;
@@ -71,6 +71,10 @@ showShardingTableRulesUsedAuditor
     : SHOW SHARDING TABLE RULES USED AUDITOR auditorName (FROM databaseName)?
     ;
 
+showShardingCache
+    : SHOW SHARDING CACHE (FROM databaseName)?
+    ;
+
 countShardingRule
     : COUNT SHARDING RULE (FROM databaseName)?
     ;
@@ -45,6 +45,7 @@ execute
     | showUnusedShardingAlgorithms
     | showUnusedShardingKeyGenerators
     | showUnusedShardingAuditors
+    | showShardingCache
     | countShardingRule
     | showShardingAlgorithmPlugins
     ) SEMI_? EOF
@@ -54,11 +54,21 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Whether run worker group and proxy command executors on virtual threads, only take effect when JVM supports virtual thread.
+     */
+    KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED("kernel-executor-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max-connections-size-per-query", String.valueOf(1), int.class, false),
     
+    /**
+     * Whether lower max opened connection size for each query to available connections of data source pool, it never exceeds max connections size per query.
+     */
+    MAX_CONNECTIONS_SIZE_PER_QUERY_POOL_AWARE_ENABLED("max-connections-size-per-query-pool-aware-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Whether validate table metadata consistency when application startup or updated.
      */
@@ -80,6 +90,18 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_BACKEND_QUERY_FETCH_SIZE("proxy-backend-query-fetch-size", String.valueOf(-1), int.class, false),
     
+    /**
+     * Proxy backend query prefetch size, which is the max rows read ahead for each stream query result in memory strictly connection mode.
+     * The default value is 0, which means rows are read from databases only when merging needs them.
+     */
+    PROXY_BACKEND_QUERY_PREFETCH_SIZE("proxy-backend-query-prefetch-size", String.valueOf(0), int.class, false),
+    
+    /**
+     * Proxy backend execution plan cache size, which is the max route units combinations whose rewritten SQL is cached for each server prepared statement.
+     * The default value is 0, which means rewriting SQL for every execution.
+     */
+    PROXY_BACKEND_EXECUTION_PLAN_CACHE_SIZE("proxy-backend-execution-plan-cache-size", String.valueOf(0), int.class, false),
+    
     /**
      * Proxy frontend executor size. The default value is 0, which means let Netty decide.
      */
@@ -90,6 +112,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_MAX_CONNECTIONS("proxy-frontend-max-connections", "0", int.class, false),
     
+    /**
+     * Max bytes of long data buffered by COM_STMT_SEND_LONG_DATA for each frontend connection. Less than or equal to 0 means no limitation.
+     */
+    PROXY_FRONTEND_MAX_LONG_DATA_SIZE("proxy-frontend-max-long-data-size", "0", long.class, false),
+    
     /**
      * Proxy default start port.
      */
@@ -120,6 +147,17 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_SSL_CIPHER("proxy-frontend-ssl-cipher", "", String.class, true),
     
+    /**
+     * Max group size kept in memory when merging group by result, exceeded groups are spilled to local temporary files.
+     * Less than or equal to 0 means no limitation.
+     */
+    GROUP_BY_MERGE_MAX_MEMORY_ROWS("group-by-merge-max-memory-rows", "0", int.class, false),
+    
+    /**
+     * Whether merge count distinct result with approximate HyperLogLog sketch instead of exact distinct value set.
+     */
+    DISTINCT_COUNT_APPROXIMATE_ENABLED("distinct-count-approximate-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Agent plugins enabled.
      */
@@ -30,6 +30,7 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -65,10 +66,11 @@ public final class PgClassTableCollector implements ShardingSphereStatisticsColl
             return rows;
         }
         int tableNameIndex = table.getColumnNames().indexOf("relname");
+        Map<String, String> logicTableNames = findLogicTableNames(ruleAttributes, rows.stream().map(each -> (String) each.getRows().get(tableNameIndex)).collect(Collectors.toSet()));
         Collection<ShardingSphereRowData> result = new LinkedList<>();
         for (ShardingSphereRowData each : rows) {
             String tableName = (String) each.getRows().get(tableNameIndex);
-            String logicTableName = decorateTableName(ruleAttributes, tableName);
+            String logicTableName = logicTableNames.getOrDefault(tableName, tableName);
             List<Object> decoratedRow = new ArrayList<>(each.getRows());
             decoratedRow.set(tableNameIndex, logicTableName);
             result.add(new ShardingSphereRowData(decoratedRow));
@@ -76,13 +78,12 @@ public final class PgClassTableCollector implements ShardingSphereStatisticsColl
         return result;
     }
     
-    private String decorateTableName(final Collection<DataNodeRuleAttribute> ruleAttributes, final String actualTableName) {
+    private Map<String, String> findLogicTableNames(final Collection<DataNodeRuleAttribute> ruleAttributes, final Collection<String> actualTableNames) {
+        Map<String, String> result = new HashMap<>(actualTableNames.size(), 1F);
         for (DataNodeRuleAttribute each : ruleAttributes) {
-            if (each.findLogicTableByActualTable(actualTableName).isPresent()) {
-                return each.findLogicTableByActualTable(actualTableName).get();
-            }
+            each.findLogicTablesByActualTables(actualTableNames).forEach(result::putIfAbsent);
         }
-        return actualTableName;
+        return result;
     }
     
     @Override
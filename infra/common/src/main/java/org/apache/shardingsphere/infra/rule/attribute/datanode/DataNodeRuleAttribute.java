@@ -21,6 +21,7 @@ import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.rule.attribute.RuleAttribute;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 
@@ -68,6 +69,20 @@ public interface DataNodeRuleAttribute extends RuleAttribute {
      */
     Optional<String> findLogicTableByActualTable(String actualTable);
     
+    /**
+     * Find logic table names via actual table names.
+     *
+     * @param actualTables actual table names
+     * @return actual table name and logic table name map, actual tables without logic table are not included
+     */
+    default Map<String, String> findLogicTablesByActualTables(final Collection<String> actualTables) {
+        Map<String, String> result = new LinkedHashMap<>(actualTables.size(), 1F);
+        for (String each : actualTables) {
+            findLogicTableByActualTable(each).ifPresent(optional -> result.put(each, optional));
+        }
+        return result;
+    }
+    
     /**
      * Find actual table name via catalog.
      *
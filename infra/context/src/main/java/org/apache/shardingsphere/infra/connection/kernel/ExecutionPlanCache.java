@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.connection.kernel;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DMLStatement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Execution plan cache of prepared statement.
+ *
+ * <p>Rewritten SQL and execution units are reused for the same route units, only parameters are substituted.
+ * Plans are only cached when rewrite does not touch parameters, and all plans are dropped once the meta data or rules change.</p>
+ */
+public final class ExecutionPlanCache {
+    
+    private final Map<List<RouteUnit>, Collection<ExecutionUnit>> plans = new LinkedHashMap<>(16, 0.75F, true);
+    
+    private List<Object> metaDataSnapshot = Collections.emptyList();
+    
+    /**
+     * Find cached execution units.
+     *
+     * @param queryContext query context
+     * @param database database
+     * @param globalRuleMetaData global rule meta data
+     * @param props configuration properties
+     * @param routeContext route context
+     * @return cached execution units with parameters of query context
+     */
+    public synchronized Optional<Collection<ExecutionUnit>> find(final QueryContext queryContext, final ShardingSphereDatabase database, final RuleMetaData globalRuleMetaData,
+                                                                 final ConfigurationProperties props, final RouteContext routeContext) {
+        if (plans.isEmpty() || !isCacheable(queryContext, routeContext)) {
+            return Optional.empty();
+        }
+        List<Object> currentMetaDataSnapshot = createMetaDataSnapshot(queryContext, database, globalRuleMetaData, props);
+        if (!isSameMetaData(currentMetaDataSnapshot)) {
+            plans.clear();
+            metaDataSnapshot = currentMetaDataSnapshot;
+            return Optional.empty();
+        }
+        Collection<ExecutionUnit> cachedExecutionUnits = plans.get(createKey(routeContext));
+        return null == cachedExecutionUnits ? Optional.empty() : Optional.of(fillParameters(cachedExecutionUnits, queryContext.getParameters()));
+    }
+    
+    /**
+     * Cache execution plan if rewrite result is reusable.
+     *
+     * @param queryContext query context
+     * @param database database
+     * @param globalRuleMetaData global rule meta data
+     * @param props configuration properties
+     * @param rewriteResult SQL rewrite result
+     * @param executionContext execution context
+     * @param maximumSize maximum size of cached plans
+     */
+    public synchronized void put(final QueryContext queryContext, final ShardingSphereDatabase database, final RuleMetaData globalRuleMetaData, final ConfigurationProperties props,
+                                 final SQLRewriteResult rewriteResult, final ExecutionContext executionContext, final int maximumSize) {
+        if (maximumSize <= 0 || !isCacheable(queryContext, executionContext.getRouteContext()) || !isReusable(rewriteResult, executionContext, queryContext.getParameters())) {
+            return;
+        }
+        List<Object> currentMetaDataSnapshot = createMetaDataSnapshot(queryContext, database, globalRuleMetaData, props);
+        if (!isSameMetaData(currentMetaDataSnapshot)) {
+            plans.clear();
+            metaDataSnapshot = currentMetaDataSnapshot;
+        }
+        plans.put(createKey(executionContext.getRouteContext()), fillParameters(executionContext.getExecutionUnits(), Collections.emptyList()));
+        while (plans.size() > maximumSize) {
+            plans.remove(plans.keySet().iterator().next());
+        }
+    }
+    
+    private boolean isCacheable(final QueryContext queryContext, final RouteContext routeContext) {
+        return queryContext.getSqlStatementContext().getSqlStatement() instanceof DMLStatement && !routeContext.getRouteUnits().isEmpty();
+    }
+    
+    private boolean isReusable(final SQLRewriteResult rewriteResult, final ExecutionContext executionContext, final List<Object> params) {
+        if (!(rewriteResult instanceof RouteSQLRewriteResult) || ((RouteSQLRewriteResult) rewriteResult).isParametersRewritten()) {
+            return false;
+        }
+        for (ExecutionUnit each : executionContext.getExecutionUnits()) {
+            if (!isSameParameters(each.getSqlUnit().getParameters(), params)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isSameParameters(final List<Object> actualParams, final List<Object> originalParams) {
+        if (actualParams.size() != originalParams.size()) {
+            return false;
+        }
+        for (int i = 0; i < actualParams.size(); i++) {
+            if (actualParams.get(i) != originalParams.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private List<Object> createMetaDataSnapshot(final QueryContext queryContext, final ShardingSphereDatabase database, final RuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
+        List<Object> result = new ArrayList<>();
+        result.add(database);
+        result.add(globalRuleMetaData);
+        result.add(props);
+        result.addAll(database.getRuleMetaData().getRules());
+        for (Entry<String, ShardingSphereSchema> entry : database.getSchemas().entrySet()) {
+            result.add(entry.getValue());
+            for (String each : queryContext.getSqlStatementContext().getTablesContext().getTableNames()) {
+                result.add(entry.getValue().getTable(each));
+            }
+        }
+        return result;
+    }
+    
+    private boolean isSameMetaData(final List<Object> currentMetaDataSnapshot) {
+        if (currentMetaDataSnapshot.size() != metaDataSnapshot.size()) {
+            return false;
+        }
+        for (int i = 0; i < currentMetaDataSnapshot.size(); i++) {
+            if (currentMetaDataSnapshot.get(i) != metaDataSnapshot.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private List<RouteUnit> createKey(final RouteContext routeContext) {
+        List<RouteUnit> result = new ArrayList<>(routeContext.getRouteUnits().size());
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            result.add(new RouteUnit(each.getDataSourceMapper(), new ArrayList<>(each.getTableMappers())));
+        }
+        return result;
+    }
+    
+    private Collection<ExecutionUnit> fillParameters(final Collection<ExecutionUnit> executionUnits, final List<Object> params) {
+        Collection<ExecutionUnit> result = new LinkedHashSet<>(executionUnits.size(), 1F);
+        for (ExecutionUnit each : executionUnits) {
+            result.add(new ExecutionUnit(each.getDataSourceName(), new SQLUnit(each.getSqlUnit().getSql(), new ArrayList<>(params), each.getSqlUnit().getTableRouteMappers())));
+        }
+        return result;
+    }
+}
@@ -21,6 +21,7 @@ import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContextBuilder;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
@@ -31,6 +32,9 @@ import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 
+import java.util.Collection;
+import java.util.Optional;
+
 /**
  * Kernel processor.
  */
@@ -58,6 +62,34 @@ public final class KernelProcessor {
         return result;
     }
     
+    /**
+     * Generate execution context with execution plan cache of prepared statement.
+     *
+     * @param queryContext query context
+     * @param database database
+     * @param globalRuleMetaData global rule meta data
+     * @param props configuration properties
+     * @param connectionContext connection context
+     * @param executionPlanCache execution plan cache
+     * @return execution context
+     */
+    public ExecutionContext generateExecutionContext(final QueryContext queryContext, final ShardingSphereDatabase database, final RuleMetaData globalRuleMetaData,
+                                                     final ConfigurationProperties props, final ConnectionContext connectionContext, final ExecutionPlanCache executionPlanCache) {
+        RouteContext routeContext = route(queryContext, database, globalRuleMetaData, props, connectionContext);
+        // 相同路由单元直接复用缓存的改写结果, 只替换参数
+        Optional<Collection<ExecutionUnit>> cachedExecutionUnits = executionPlanCache.find(queryContext, database, globalRuleMetaData, props, routeContext);
+        ExecutionContext result;
+        if (cachedExecutionUnits.isPresent()) {
+            result = new ExecutionContext(queryContext, cachedExecutionUnits.get(), routeContext);
+        } else {
+            SQLRewriteResult rewriteResult = rewrite(queryContext, database, globalRuleMetaData, props, routeContext, connectionContext);
+            result = createExecutionContext(queryContext, database, routeContext, rewriteResult);
+            executionPlanCache.put(queryContext, database, globalRuleMetaData, props, rewriteResult, result, props.<Integer>getValue(ConfigurationPropertyKey.PROXY_BACKEND_EXECUTION_PLAN_CACHE_SIZE));
+        }
+        logSQL(queryContext, props, result);
+        return result;
+    }
+    
     private RouteContext route(final QueryContext queryContext, final ShardingSphereDatabase database,
                                final RuleMetaData globalRuleMetaData, final ConfigurationProperties props, final ConnectionContext connectionContext) {
         // 创建路由引擎 并执行路由方法, route方法 重点 sql路由的
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.connection.kernel;
+
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ExecutionPlanCacheTest {
+    
+    private final SQLStatementContext sqlStatementContext = mockSQLStatementContext();
+    
+    private final ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+    
+    private final RuleMetaData globalRuleMetaData = new RuleMetaData(Collections.emptyList());
+    
+    private final ConfigurationProperties props = new ConfigurationProperties(new Properties());
+    
+    @Test
+    void assertFindWithNewParameters() {
+        ExecutionPlanCache executionPlanCache = new ExecutionPlanCache();
+        QueryContext queryContext = createQueryContext(Arrays.asList(1, "foo"));
+        executionPlanCache.put(queryContext, database, globalRuleMetaData, props, new RouteSQLRewriteResult(Collections.emptyMap(), false), createExecutionContext(queryContext), 1);
+        Optional<Collection<ExecutionUnit>> actual = executionPlanCache.find(createQueryContext(Arrays.asList(3, "bar")), database, globalRuleMetaData, props, createRouteContext("t_order_1"));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().size(), is(1));
+        ExecutionUnit actualExecutionUnit = actual.get().iterator().next();
+        assertThat(actualExecutionUnit.getDataSourceName(), is("ds_0"));
+        assertThat(actualExecutionUnit.getSqlUnit().getSql(), is("SELECT * FROM t_order_1 WHERE order_id = ? AND status = ?"));
+        assertThat(actualExecutionUnit.getSqlUnit().getParameters(), is(Arrays.<Object>asList(3, "bar")));
+    }
+    
+    @Test
+    void assertFindWithDifferentRouteUnits() {
+        ExecutionPlanCache executionPlanCache = new ExecutionPlanCache();
+        QueryContext queryContext = createQueryContext(Arrays.asList(1, "foo"));
+        executionPlanCache.put(queryContext, database, globalRuleMetaData, props, new RouteSQLRewriteResult(Collections.emptyMap(), false), createExecutionContext(queryContext), 1);
+        assertFalse(executionPlanCache.find(createQueryContext(Arrays.asList(2, "bar")), database, globalRuleMetaData, props, createRouteContext("t_order_0")).isPresent());
+    }
+    
+    @Test
+    void assertFindWithParametersRewritten() {
+        ExecutionPlanCache executionPlanCache = new ExecutionPlanCache();
+        QueryContext queryContext = createQueryContext(Arrays.asList(1, "foo"));
+        executionPlanCache.put(queryContext, database, globalRuleMetaData, props, new RouteSQLRewriteResult(Collections.emptyMap(), true), createExecutionContext(queryContext), 1);
+        assertFalse(executionPlanCache.find(createQueryContext(Arrays.asList(3, "bar")), database, globalRuleMetaData, props, createRouteContext("t_order_1")).isPresent());
+    }
+    
+    @Test
+    void assertFindAfterMetaDataChanged() {
+        ExecutionPlanCache executionPlanCache = new ExecutionPlanCache();
+        QueryContext queryContext = createQueryContext(Arrays.asList(1, "foo"));
+        executionPlanCache.put(queryContext, database, globalRuleMetaData, props, new RouteSQLRewriteResult(Collections.emptyMap(), false), createExecutionContext(queryContext), 1);
+        ShardingSphereDatabase changedDatabase = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        assertFalse(executionPlanCache.find(createQueryContext(Arrays.asList(3, "bar")), changedDatabase, globalRuleMetaData, props, createRouteContext("t_order_1")).isPresent());
+        assertFalse(executionPlanCache.find(createQueryContext(Arrays.asList(3, "bar")), database, globalRuleMetaData, props, createRouteContext("t_order_1")).isPresent());
+    }
+    
+    private SQLStatementContext mockSQLStatementContext() {
+        SQLStatementContext result = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(result.getSqlStatement()).thenReturn(mock(SelectStatement.class));
+        when(result.getTablesContext().getTableNames()).thenReturn(Collections.singleton("t_order"));
+        return result;
+    }
+    
+    private QueryContext createQueryContext(final List<Object> params) {
+        return new QueryContext(sqlStatementContext, "SELECT * FROM t_order WHERE order_id = ? AND status = ?", params, new HintValueContext(), true);
+    }
+    
+    private ExecutionContext createExecutionContext(final QueryContext queryContext) {
+        SQLUnit sqlUnit = new SQLUnit("SELECT * FROM t_order_1 WHERE order_id = ? AND status = ?", queryContext.getParameters());
+        return new ExecutionContext(queryContext, Collections.singleton(new ExecutionUnit("ds_0", sqlUnit)), createRouteContext("t_order_1"));
+    }
+    
+    private RouteContext createRouteContext(final String actualTableName) {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper("t_order", actualTableName))));
+        return result;
+    }
+}
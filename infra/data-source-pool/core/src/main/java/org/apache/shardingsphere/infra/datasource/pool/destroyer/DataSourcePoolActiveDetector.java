@@ -22,6 +22,7 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPI;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
+import java.util.Optional;
 
 /**
  * Data source pool active detector.
@@ -37,4 +38,14 @@ public interface DataSourcePoolActiveDetector extends TypedSPI {
      * @throws SQLException SQL exception
      */
     boolean containsActiveConnection(DataSource dataSource) throws SQLException;
+    
+    /**
+     * Find available connections size, which is max pool size minus active connections and threads awaiting connection.
+     * 
+     * @param dataSource data source pool to be detected
+     * @return available connections size, empty if pool metrics are not supported
+     */
+    default Optional<Integer> findAvailableConnectionsSize(final DataSource dataSource) {
+        return Optional.empty();
+    }
 }
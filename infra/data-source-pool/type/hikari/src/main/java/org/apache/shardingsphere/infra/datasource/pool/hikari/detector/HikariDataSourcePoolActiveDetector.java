@@ -21,6 +21,7 @@ import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.datasource.pool.destroyer.DataSourcePoolActiveDetector;
 
 import javax.sql.DataSource;
+import java.util.Optional;
 
 /**
  * Hikari data source pool active detector.
@@ -38,6 +39,19 @@ public final class HikariDataSourcePoolActiveDetector implements DataSourcePoolA
         return null == hikariPoolMXBean ? 0 : (int) hikariPoolMXBean.getClass().getMethod("getActiveConnections").invoke(hikariPoolMXBean);
     }
     
+    @SneakyThrows(ReflectiveOperationException.class)
+    @Override
+    public Optional<Integer> findAvailableConnectionsSize(final DataSource dataSource) {
+        int maximumPoolSize = (int) dataSource.getClass().getMethod("getMaximumPoolSize").invoke(dataSource);
+        Object hikariPoolMXBean = dataSource.getClass().getMethod("getHikariPoolMXBean").invoke(dataSource);
+        if (null == hikariPoolMXBean) {
+            return Optional.of(maximumPoolSize);
+        }
+        int activeConnections = (int) hikariPoolMXBean.getClass().getMethod("getActiveConnections").invoke(hikariPoolMXBean);
+        int threadsAwaitingConnection = (int) hikariPoolMXBean.getClass().getMethod("getThreadsAwaitingConnection").invoke(hikariPoolMXBean);
+        return Optional.of(Math.max(0, maximumPoolSize - activeConnections - threadsAwaitingConnection));
+    }
+    
     @Override
     public String getType() {
         return "com.zaxxer.hikari.HikariDataSource";
@@ -25,7 +25,10 @@ import org.junit.jupiter.api.Test;
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Optional;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -49,6 +52,16 @@ class HikariDataSourcePoolActiveDetectorTest {
         }
     }
     
+    @Test
+    void assertFindAvailableConnectionsSize() throws SQLException {
+        HikariDataSource dataSource = createHikariDataSource();
+        dataSource.setMaximumPoolSize(4);
+        assertThat(new HikariDataSourcePoolActiveDetector().findAvailableConnectionsSize(dataSource), is(Optional.of(4)));
+        try (Connection ignored = dataSource.getConnection()) {
+            assertThat(new HikariDataSourcePoolActiveDetector().findAvailableConnectionsSize(dataSource), is(Optional.of(3)));
+        }
+    }
+    
     private HikariDataSource createHikariDataSource() {
         HikariConfig config = new HikariConfig();
         config.setDriverClassName(MockedDriver.class.getName());
@@ -37,6 +37,7 @@ import org.apache.shardingsphere.infra.exception.mysql.exception.ErrorLocalVaria
 import org.apache.shardingsphere.infra.exception.mysql.exception.HandshakeException;
 import org.apache.shardingsphere.infra.exception.mysql.exception.IncorrectGlobalLocalVariableException;
 import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.sql.DialectSQLParsingException;
+import org.apache.shardingsphere.infra.exception.mysql.exception.NetPacketTooLargeException;
 import org.apache.shardingsphere.infra.exception.mysql.exception.TooManyPlaceholdersException;
 import org.apache.shardingsphere.infra.exception.mysql.exception.UnknownCharsetException;
 import org.apache.shardingsphere.infra.exception.mysql.exception.UnknownCollationException;
@@ -92,6 +93,9 @@ public final class MySQLDialectExceptionMapper implements SQLDialectExceptionMap
         if (sqlDialectException instanceof TooManyPlaceholdersException) {
             return toSQLException(MySQLVendorError.ER_PS_MANY_PARAM);
         }
+        if (sqlDialectException instanceof NetPacketTooLargeException) {
+            return toSQLException(MySQLVendorError.ER_NET_PACKET_TOO_LARGE, ((NetPacketTooLargeException) sqlDialectException).getVariableName());
+        }
         if (sqlDialectException instanceof UnknownCharsetException) {
             return toSQLException(MySQLVendorError.ER_UNKNOWN_CHARACTER_SET, ((UnknownCharsetException) sqlDialectException).getCharset());
         }
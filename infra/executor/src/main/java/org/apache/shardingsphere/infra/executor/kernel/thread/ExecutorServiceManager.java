@@ -22,7 +22,9 @@ import lombok.Getter;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -42,7 +44,13 @@ public final class ExecutorServiceManager {
     }
     
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat));
+        this(executorSize, nameFormat, false);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final boolean virtualThreadEnabled) {
+        executorService = TtlExecutors.getTtlExecutorService(virtualThreadEnabled && ExecutorThreadFactoryBuilder.isVirtualThreadSupported()
+                ? getVirtualThreadExecutorService(executorSize, nameFormat)
+                : getExecutorService(executorSize, nameFormat));
     }
     
     private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
@@ -50,6 +58,12 @@ public final class ExecutorServiceManager {
         return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
     }
     
+    private ExecutorService getVirtualThreadExecutorService(final int executorSize, final String nameFormat) {
+        ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.buildVirtual(nameFormat);
+        return 0 == executorSize ? new ThreadPoolExecutor(0, Integer.MAX_VALUE, 0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>(), threadFactory)
+                : Executors.newFixedThreadPool(executorSize, threadFactory);
+    }
+    
     /**
      * Close executor service.
      */
@@ -21,7 +21,9 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.lang.reflect.Method;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Executor thread factory builder.
@@ -31,6 +33,18 @@ public final class ExecutorThreadFactoryBuilder {
     
     private static final String NAME_FORMAT_PREFIX = "ShardingSphere-";
     
+    private static final Method VIRTUAL_THREAD_FACTORY_METHOD = findVirtualThreadFactoryMethod();
+    
+    private static Method findVirtualThreadFactoryMethod() {
+        try {
+            Method result = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+            result.invoke(Thread.class.getMethod("ofVirtual").invoke(null));
+            return result;
+        } catch (final ReflectiveOperationException | UnsupportedOperationException ignored) {
+            return null;
+        }
+    }
+    
     /**
      * Build thread factory with thread name format.
      * 
@@ -40,4 +54,41 @@ public final class ExecutorThreadFactoryBuilder {
     public static ThreadFactory build(final String nameFormat) {
         return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build();
     }
+    
+    /**
+     * Judge whether current JVM supports virtual thread.
+     *
+     * @return current JVM supports virtual thread or not
+     */
+    public static boolean isVirtualThreadSupported() {
+        return null != VIRTUAL_THREAD_FACTORY_METHOD;
+    }
+    
+    /**
+     * Build virtual thread factory with thread name format.
+     *
+     * @param nameFormat thread name format
+     * @return virtual thread factory
+     * @throws UnsupportedOperationException unsupported operation exception if current JVM does not support virtual thread
+     */
+    public static ThreadFactory buildVirtual(final String nameFormat) {
+        ThreadFactory virtualThreadFactory = createVirtualThreadFactory();
+        AtomicLong count = new AtomicLong();
+        return runnable -> {
+            Thread result = virtualThreadFactory.newThread(runnable);
+            result.setName(String.format(NAME_FORMAT_PREFIX + nameFormat, count.getAndIncrement()));
+            return result;
+        };
+    }
+    
+    private static ThreadFactory createVirtualThreadFactory() {
+        if (!isVirtualThreadSupported()) {
+            throw new UnsupportedOperationException("Virtual thread is not supported by current JVM.");
+        }
+        try {
+            return (ThreadFactory) VIRTUAL_THREAD_FACTORY_METHOD.invoke(Thread.class.getMethod("ofVirtual").invoke(null));
+        } catch (final ReflectiveOperationException ex) {
+            throw new UnsupportedOperationException("Virtual thread is not supported by current JVM.", ex);
+        }
+    }
 }
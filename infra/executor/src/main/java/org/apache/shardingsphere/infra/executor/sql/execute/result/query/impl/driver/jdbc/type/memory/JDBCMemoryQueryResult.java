@@ -17,19 +17,144 @@
 
 package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory;
 
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.database.core.resultset.ResultSetMapper;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column.MemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column.MemoryQueryResultColumnFactory;
 
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.ObjectOutputStream;
+import java.io.Reader;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.Calendar;
 
 /**
  * JDBC query result for memory loading.
+ * 
+ * <p>Rows are loaded into typed column vectors instead of one boxed value list for each row.</p>
  */
-public final class JDBCMemoryQueryResult extends AbstractMemoryQueryResult {
+public final class JDBCMemoryQueryResult implements QueryResult {
+    
+    @Getter
+    private final QueryResultMetaData metaData;
+    
+    private final MemoryQueryResultColumn[] columns;
+    
+    private final int totalRowCount;
+    
+    private int currentRowIndex = -1;
+    
+    private boolean wasNull;
     
     public JDBCMemoryQueryResult(final ResultSet resultSet, final DatabaseType databaseType) throws SQLException {
-        super(new JDBCQueryResultMetaData(resultSet.getMetaData()), new QueryResultDataRowLoader(databaseType).load(resultSet.getMetaData().getColumnCount(), resultSet));
+        ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+        metaData = new JDBCQueryResultMetaData(resultSetMetaData);
+        columns = createColumns(resultSetMetaData, new ResultSetMapper(databaseType));
+        totalRowCount = load(resultSet);
+    }
+    
+    private MemoryQueryResultColumn[] createColumns(final ResultSetMetaData resultSetMetaData, final ResultSetMapper resultSetMapper) throws SQLException {
+        MemoryQueryResultColumn[] result = new MemoryQueryResultColumn[resultSetMetaData.getColumnCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = MemoryQueryResultColumnFactory.newInstance(resultSetMetaData, i + 1, resultSetMapper);
+        }
+        return result;
+    }
+    
+    private int load(final ResultSet resultSet) throws SQLException {
+        int result = 0;
+        while (resultSet.next()) {
+            for (int i = 0; i < columns.length; i++) {
+                columns[i].load(resultSet, i + 1);
+            }
+            result++;
+        }
+        return result;
+    }
+    
+    @Override
+    public boolean next() {
+        if (currentRowIndex + 1 < totalRowCount) {
+            currentRowIndex++;
+            return true;
+        }
+        currentRowIndex = totalRowCount;
+        return false;
+    }
+    
+    /**
+     * Judge whether cursor is on a row.
+     *
+     * @return cursor is on a row or not
+     */
+    public boolean hasCurrentRow() {
+        return currentRowIndex >= 0 && currentRowIndex < totalRowCount;
+    }
+    
+    /**
+     * Get count of rows after current row.
+     *
+     * @return count of rows after current row
+     */
+    public long getRowCount() {
+        return totalRowCount - Math.min(currentRowIndex + 1, totalRowCount);
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        Object result = columns[columnIndex - 1].getValue(currentRowIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        Object result = columns[columnIndex - 1].getValue(currentRowIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) {
+        Object value = columns[columnIndex - 1].getValue(currentRowIndex);
+        wasNull = null == value;
+        return getInputStream(value);
+    }
+    
+    @SneakyThrows(IOException.class)
+    private InputStream getInputStream(final Object value) {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+        objectOutputStream.writeObject(value);
+        objectOutputStream.flush();
+        objectOutputStream.close();
+        return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+    }
+    
+    @Override
+    public Reader getCharacterStream(final int columnIndex) {
+        // TODO Support connection property character encoding
+        return new BufferedReader(new InputStreamReader(getInputStream(columnIndex, "")));
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() {
     }
 }
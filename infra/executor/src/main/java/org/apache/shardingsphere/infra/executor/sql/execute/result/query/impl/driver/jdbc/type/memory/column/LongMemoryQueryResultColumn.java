@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Memory query result column for integral values.
+ */
+public final class LongMemoryQueryResultColumn implements MemoryQueryResultColumn {
+    
+    private static final int DEFAULT_CAPACITY = 16;
+    
+    private final boolean intValue;
+    
+    private final BitSet nulls = new BitSet();
+    
+    private long[] values = new long[DEFAULT_CAPACITY];
+    
+    private int size;
+    
+    public LongMemoryQueryResultColumn(final boolean intValue) {
+        this.intValue = intValue;
+    }
+    
+    @Override
+    public void load(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        long value = intValue ? resultSet.getInt(columnIndex) : resultSet.getLong(columnIndex);
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size << 1);
+        }
+        if (resultSet.wasNull()) {
+            nulls.set(size);
+        } else {
+            values[size] = value;
+        }
+        size++;
+    }
+    
+    @Override
+    public Object getValue(final int rowIndex) {
+        if (nulls.get(rowIndex)) {
+            return null;
+        }
+        return intValue ? (Object) (int) values[rowIndex] : (Object) values[rowIndex];
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.database.core.resultset.ResultSetMapper;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Memory query result column factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MemoryQueryResultColumnFactory {
+    
+    /**
+     * Create new instance of memory query result column.
+     * 
+     * <p>The column types are aligned with {@link ResultSetMapper}, so the loaded values keep the same Java types.</p>
+     *
+     * @param metaData result set meta data
+     * @param columnIndex column index
+     * @param resultSetMapper result set mapper
+     * @return created memory query result column
+     * @throws SQLException SQL exception
+     */
+    public static MemoryQueryResultColumn newInstance(final ResultSetMetaData metaData, final int columnIndex, final ResultSetMapper resultSetMapper) throws SQLException {
+        switch (metaData.getColumnType(columnIndex)) {
+            case Types.INTEGER:
+                return new LongMemoryQueryResultColumn(metaData.isSigned(columnIndex));
+            case Types.BIGINT:
+                return metaData.isSigned(columnIndex) ? new LongMemoryQueryResultColumn(false) : new ObjectMemoryQueryResultColumn(resultSetMapper);
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return new DoubleMemoryQueryResultColumn();
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+                return new StringMemoryQueryResultColumn();
+            default:
+                return new ObjectMemoryQueryResultColumn(resultSetMapper);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column;
+
+import org.apache.shardingsphere.infra.database.core.resultset.ResultSetMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Memory query result column for values without primitive representation.
+ */
+public final class ObjectMemoryQueryResultColumn implements MemoryQueryResultColumn {
+    
+    private static final int DEFAULT_CAPACITY = 16;
+    
+    private final ResultSetMapper resultSetMapper;
+    
+    private Object[] values = new Object[DEFAULT_CAPACITY];
+    
+    private int size;
+    
+    public ObjectMemoryQueryResultColumn(final ResultSetMapper resultSetMapper) {
+        this.resultSetMapper = resultSetMapper;
+    }
+    
+    @Override
+    public void load(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        Object value = resultSetMapper.load(resultSet, columnIndex);
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size << 1);
+        }
+        values[size++] = resultSet.wasNull() ? null : value;
+    }
+    
+    @Override
+    public Object getValue(final int rowIndex) {
+        return values[rowIndex];
+    }
+}
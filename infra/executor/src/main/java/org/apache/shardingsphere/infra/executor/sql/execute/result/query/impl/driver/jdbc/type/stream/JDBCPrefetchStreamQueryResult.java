@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.database.core.resultset.ResultSetMapper;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.stream.AbstractStreamQueryResult;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.ObjectOutputStream;
+import java.io.Reader;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Calendar;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * JDBC query result for stream loading with bounded read-ahead.
+ * 
+ * <p>Rows are read from result set and decoded by a producer task into a bounded buffer, so that reading from storage overlaps with merging.
+ * Values are decoded in the same way as {@code JDBCMemoryQueryResult}.</p>
+ */
+public final class JDBCPrefetchStreamQueryResult extends AbstractStreamQueryResult {
+    
+    private static final ExecutorService PREFETCH_EXECUTOR = new ExecutorServiceManager(0, "Stream-Prefetch-%d").getExecutorService();
+    
+    private static final Object[] END_OF_ROWS = new Object[0];
+    
+    private static final long OFFER_TIMEOUT_MILLIS = 100L;
+    
+    private static final long CLOSE_TIMEOUT_MILLIS = 3000L;
+    
+    @Getter
+    private final ResultSet resultSet;
+    
+    private final ResultSetMapper resultSetMapper;
+    
+    private final int columnCount;
+    
+    private final BlockingQueue<Object[]> rows;
+    
+    private final Future<?> producer;
+    
+    private volatile boolean closed;
+    
+    private volatile SQLException producerException;
+    
+    private Object[] currentRow;
+    
+    private boolean finished;
+    
+    private boolean wasNull;
+    
+    public JDBCPrefetchStreamQueryResult(final ResultSet resultSet, final DatabaseType databaseType, final int prefetchSize) throws SQLException {
+        super(new JDBCQueryResultMetaData(resultSet.getMetaData()));
+        this.resultSet = resultSet;
+        resultSetMapper = new ResultSetMapper(databaseType);
+        columnCount = resultSet.getMetaData().getColumnCount();
+        rows = new ArrayBlockingQueue<>(prefetchSize);
+        producer = PREFETCH_EXECUTOR.submit(this::prefetch);
+    }
+    
+    private void prefetch() {
+        try {
+            while (!closed && resultSet.next()) {
+                if (!offer(loadRow())) {
+                    return;
+                }
+            }
+        } catch (final SQLException ex) {
+            producerException = ex;
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            producerException = new SQLException(ex);
+        }
+        offer(END_OF_ROWS);
+    }
+    
+    private Object[] loadRow() throws SQLException {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            Object value = resultSetMapper.load(resultSet, i + 1);
+            result[i] = resultSet.wasNull() ? null : value;
+        }
+        return result;
+    }
+    
+    private boolean offer(final Object[] row) {
+        try {
+            while (!rows.offer(row, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (closed) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (finished) {
+            return false;
+        }
+        Object[] row = take();
+        if (END_OF_ROWS == row) {
+            finished = true;
+            currentRow = null;
+            if (null != producerException) {
+                throw producerException;
+            }
+            return false;
+        }
+        currentRow = row;
+        return true;
+    }
+    
+    private Object[] take() throws SQLException {
+        try {
+            return rows.take();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        }
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        Object result = currentRow[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        Object result = currentRow[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) {
+        Object value = currentRow[columnIndex - 1];
+        wasNull = null == value;
+        return getInputStream(value);
+    }
+    
+    @SneakyThrows(IOException.class)
+    private InputStream getInputStream(final Object value) {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+        objectOutputStream.writeObject(value);
+        objectOutputStream.flush();
+        objectOutputStream.close();
+        return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+    }
+    
+    @Override
+    public Reader getCharacterStream(final int columnIndex) {
+        // TODO Support connection property character encoding
+        return new BufferedReader(new InputStreamReader(getInputStream(columnIndex, "")));
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    /**
+     * Stop read-ahead and wait for producer task to release result set with bounded timeout, then close result set.
+     * 
+     * <p>Producer task is cancelled if it is still blocked on result set after timeout.</p>
+     *
+     * @throws SQLException SQL exception
+     */
+    @Override
+    public void close() throws SQLException {
+        closed = true;
+        rows.clear();
+        try {
+            producer.get(CLOSE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            producer.cancel(true);
+        } catch (final TimeoutException ex) {
+            producer.cancel(true);
+        } catch (final ExecutionException | CancellationException ignored) {
+        }
+        resultSet.close();
+    }
+}
@@ -25,28 +25,43 @@ import java.util.List;
 
 /**
  * SQL Execution hook for SPI.
+ * 
+ * <p>Hook instances are loaded once for each thread and reused by the executions on the thread,
+ * because start and finish of one execution are always invoked on the same thread.
+ * Nothing is loaded or dispatched if no hook is registered.</p>
  */
 public final class SPISQLExecutionHook implements SQLExecutionHook {
     
-    private final Collection<SQLExecutionHook> sqlExecutionHooks = ShardingSphereServiceLoader.getServiceInstances(SQLExecutionHook.class);
+    private static final boolean HOOK_REGISTERED = !ShardingSphereServiceLoader.getServiceInstances(SQLExecutionHook.class).isEmpty();
+    
+    private static final ThreadLocal<Collection<SQLExecutionHook>> SQL_EXECUTION_HOOKS = ThreadLocal.withInitial(() -> ShardingSphereServiceLoader.getServiceInstances(SQLExecutionHook.class));
     
     @Override
     public void start(final String dataSourceName, final String sql, final List<Object> params, final ConnectionProperties connectionProps, final boolean isTrunkThread) {
-        for (SQLExecutionHook each : sqlExecutionHooks) {
+        if (!HOOK_REGISTERED) {
+            return;
+        }
+        for (SQLExecutionHook each : SQL_EXECUTION_HOOKS.get()) {
             each.start(dataSourceName, sql, params, connectionProps, isTrunkThread);
         }
     }
     
     @Override
     public void finishSuccess() {
-        for (SQLExecutionHook each : sqlExecutionHooks) {
+        if (!HOOK_REGISTERED) {
+            return;
+        }
+        for (SQLExecutionHook each : SQL_EXECUTION_HOOKS.get()) {
             each.finishSuccess();
         }
     }
     
     @Override
     public void finishFailure(final Exception cause) {
-        for (SQLExecutionHook each : sqlExecutionHooks) {
+        if (!HOOK_REGISTERED) {
+            return;
+        }
+        for (SQLExecutionHook each : SQL_EXECUTION_HOOKS.get()) {
             each.finishFailure(cause);
         }
     }
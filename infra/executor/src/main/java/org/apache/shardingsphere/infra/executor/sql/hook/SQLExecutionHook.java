@@ -23,6 +23,8 @@ import java.util.List;
 
 /**
  * SQL Execution hook.
+ * 
+ * <p>Instances are reused by the executions on the same thread, state kept by implementations should be reset when execution started.</p>
  */
 public interface SQLExecutionHook {
     
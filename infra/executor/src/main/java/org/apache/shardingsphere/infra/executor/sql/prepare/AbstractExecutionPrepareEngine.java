@@ -68,10 +68,12 @@ public abstract class AbstractExecutionPrepareEngine<T> implements ExecutionPrep
         for (Entry<String, List<ExecutionUnit>> entry : aggregateExecutionUnitGroups(executionUnits).entrySet()) {
             // 数据源
             String dataSourceName = entry.getKey();
+            // 规划本次查询在该数据源上可用的连接数
+            int maxConnectionsSize = getMaxConnectionsSize(dataSourceName, entry.getValue().size(), maxConnectionsSizePerQuery);
             // 执行单元
-            List<List<ExecutionUnit>> executionUnitGroups = group(entry.getValue());
+            List<List<ExecutionUnit>> executionUnitGroups = group(entry.getValue(), maxConnectionsSize);
             // 计算连接模式
-            ConnectionMode connectionMode = maxConnectionsSizePerQuery < entry.getValue().size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
+            ConnectionMode connectionMode = maxConnectionsSize < entry.getValue().size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
             // group 进行分组,
             // 重点 group分组方法中，根据模式获取连接，并创建分组, org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine.group
             // 添加分组结果
@@ -81,8 +83,20 @@ public abstract class AbstractExecutionPrepareEngine<T> implements ExecutionPrep
         return decorate(routeContext, result, reportContext);
     }
     
-    private List<List<ExecutionUnit>> group(final List<ExecutionUnit> sqlUnits) {
-        int desiredPartitionSize = Math.max(0 == sqlUnits.size() % maxConnectionsSizePerQuery ? sqlUnits.size() / maxConnectionsSizePerQuery : sqlUnits.size() / maxConnectionsSizePerQuery + 1, 1);
+    /**
+     * Get max connections size of data source for one query.
+     *
+     * @param dataSourceName data source name
+     * @param executionUnitsSize execution units size of data source
+     * @param maxConnectionsSizePerQuery configured max connections size per query
+     * @return max connections size
+     */
+    protected int getMaxConnectionsSize(final String dataSourceName, final int executionUnitsSize, final int maxConnectionsSizePerQuery) {
+        return maxConnectionsSizePerQuery;
+    }
+    
+    private List<List<ExecutionUnit>> group(final List<ExecutionUnit> sqlUnits, final int maxConnectionsSize) {
+        int desiredPartitionSize = Math.max(0 == sqlUnits.size() % maxConnectionsSize ? sqlUnits.size() / maxConnectionsSize : sqlUnits.size() / maxConnectionsSize + 1, 1);
         return Lists.partition(sqlUnits, desiredPartitionSize);
     }
     
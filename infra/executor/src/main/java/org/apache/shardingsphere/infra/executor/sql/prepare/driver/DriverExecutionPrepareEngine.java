@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.infra.executor.sql.prepare.driver;
 
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.datasource.pool.CatalogSwitchableDataSource;
+import org.apache.shardingsphere.infra.datasource.pool.destroyer.DataSourcePoolActiveDetector;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
@@ -27,11 +29,13 @@ import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUn
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 
+import javax.sql.DataSource;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -56,10 +60,13 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
     
     private final Map<String, StorageUnit> storageUnits;
     
-    public DriverExecutionPrepareEngine(final String type, final int maxConnectionsSizePerQuery, final DatabaseConnectionManager<C> databaseConnectionManager,
+    private final boolean poolAwareEnabled;
+    
+    public DriverExecutionPrepareEngine(final String type, final int maxConnectionsSizePerQuery, final boolean poolAwareEnabled, final DatabaseConnectionManager<C> databaseConnectionManager,
                                         final ExecutorStatementManager<C, ?, ?> statementManager, final StorageResourceOption option, final Collection<ShardingSphereRule> rules,
                                         final Map<String, StorageUnit> storageUnits) {
         super(maxConnectionsSizePerQuery, rules);
+        this.poolAwareEnabled = poolAwareEnabled;
         this.databaseConnectionManager = databaseConnectionManager;
         this.statementManager = statementManager;
         this.option = option;
@@ -81,7 +88,22 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
         }
         return result;
     }
-
+    
+    @Override
+    protected int getMaxConnectionsSize(final String dataSourceName, final int executionUnitsSize, final int maxConnectionsSizePerQuery) {
+        StorageUnit storageUnit = poolAwareEnabled ? storageUnits.get(dataSourceName) : null;
+        if (null == storageUnit) {
+            return maxConnectionsSizePerQuery;
+        }
+        Optional<Integer> availableConnectionsSize = findAvailableConnectionsSize(storageUnit.getDataSource());
+        return availableConnectionsSize.map(optional -> Math.max(1, Math.min(maxConnectionsSizePerQuery, optional))).orElse(maxConnectionsSizePerQuery);
+    }
+    
+    private Optional<Integer> findAvailableConnectionsSize(final DataSource dataSource) {
+        DataSource actualDataSource = dataSource instanceof CatalogSwitchableDataSource ? ((CatalogSwitchableDataSource) dataSource).getDataSource() : dataSource;
+        return TypedSPILoader.findService(DataSourcePoolActiveDetector.class, actualDataSource.getClass().getName()).flatMap(each -> each.findAvailableConnectionsSize(actualDataSource));
+    }
+    
     // 分组方法中，根据模式获取连接，并创建分组
     @Override
     protected List<ExecutionGroup<T>> group(final String dataSourceName, final int connectionOffset, final List<List<ExecutionUnit>> executionUnitGroups,
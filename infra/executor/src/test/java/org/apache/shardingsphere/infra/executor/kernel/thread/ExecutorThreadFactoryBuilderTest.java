@@ -18,11 +18,16 @@
 package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
 
 import java.util.concurrent.ThreadFactory;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ExecutorThreadFactoryBuilderTest {
     
@@ -33,4 +38,21 @@ class ExecutorThreadFactoryBuilderTest {
         });
         assertThat(thread.getName(), is("ShardingSphere-test"));
     }
+    
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void assertBuildVirtualWithNameFormat() throws ReflectiveOperationException {
+        assertTrue(ExecutorThreadFactoryBuilder.isVirtualThreadSupported());
+        Thread thread = ExecutorThreadFactoryBuilder.buildVirtual("test-%d").newThread(() -> {
+        });
+        assertThat(thread.getName(), is("ShardingSphere-test-0"));
+        assertTrue((boolean) Thread.class.getMethod("isVirtual").invoke(thread));
+    }
+    
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void assertBuildVirtualWhenUnsupported() {
+        assertFalse(ExecutorThreadFactoryBuilder.isVirtualThreadSupported());
+        assertThrows(UnsupportedOperationException.class, () -> ExecutorThreadFactoryBuilder.buildVirtual("test-%d"));
+    }
 }
@@ -38,6 +38,7 @@ import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.sql.Types;
+import java.util.Arrays;
 import java.util.Calendar;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -323,6 +324,49 @@ class JDBCMemoryQueryResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    void assertGetValueWithMultipleRows() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(3);
+        when(resultSetMetaData.getColumnType(1)).thenReturn(Types.BIGINT);
+        when(resultSetMetaData.isSigned(1)).thenReturn(true);
+        when(resultSetMetaData.getColumnType(2)).thenReturn(Types.VARCHAR);
+        when(resultSetMetaData.getColumnType(3)).thenReturn(Types.DOUBLE);
+        when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
+        int rowCount = 100;
+        Boolean[] nextResults = new Boolean[rowCount];
+        Long[] longValues = new Long[rowCount];
+        String[] stringValues = new String[rowCount];
+        Double[] doubleValues = new Double[rowCount];
+        Boolean[] wasNullResults = new Boolean[rowCount * 3];
+        for (int i = 0; i < rowCount; i++) {
+            nextResults[i] = i < rowCount - 1;
+            longValues[i] = (long) i;
+            stringValues[i] = 0 == i % 10 ? null : "value_" + i;
+            doubleValues[i] = i / 2.0D;
+            wasNullResults[i * 3] = false;
+            wasNullResults[i * 3 + 1] = 0 == i % 10;
+            wasNullResults[i * 3 + 2] = false;
+        }
+        when(resultSet.next()).thenReturn(true, nextResults);
+        when(resultSet.getLong(1)).thenReturn(longValues[0], Arrays.copyOfRange(longValues, 1, rowCount));
+        when(resultSet.getString(2)).thenReturn(stringValues[0], Arrays.copyOfRange(stringValues, 1, rowCount));
+        when(resultSet.getDouble(3)).thenReturn(doubleValues[0], Arrays.copyOfRange(doubleValues, 1, rowCount));
+        when(resultSet.wasNull()).thenReturn(wasNullResults[0], Arrays.copyOfRange(wasNullResults, 1, rowCount * 3));
+        JDBCMemoryQueryResult actual = new JDBCMemoryQueryResult(resultSet, databaseType);
+        assertThat(actual.getRowCount(), is((long) rowCount));
+        for (int i = 0; i < rowCount; i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, long.class), is((long) i));
+            assertThat(actual.getValue(2, String.class), is(stringValues[i]));
+            assertThat(actual.wasNull(), is(0 == i % 10));
+            assertThat(actual.getValue(3, double.class), is(i / 2.0D));
+        }
+        assertFalse(actual.next());
+        assertFalse(actual.hasCurrentRow());
+    }
+    
     private ResultSet getMockedResultSet(final int columnTypes) throws SQLException {
         ResultSet resultSet = mock(ResultSet.class);
         when(resultSet.next()).thenReturn(true, false);
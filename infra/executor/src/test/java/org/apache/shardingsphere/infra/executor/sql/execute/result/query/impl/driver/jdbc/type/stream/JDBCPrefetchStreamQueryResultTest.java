@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream;
+
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JDBCPrefetchStreamQueryResultTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "FIXTURE");
+    
+    @Test
+    void assertNextAndGetValue() throws SQLException {
+        ResultSet resultSet = mockResultSet();
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getLong(1)).thenReturn(1L, 2L, 3L);
+        when(resultSet.wasNull()).thenReturn(false, false, true);
+        JDBCPrefetchStreamQueryResult actual = new JDBCPrefetchStreamQueryResult(resultSet, databaseType, 1);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(1L));
+        assertFalse(actual.wasNull());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, long.class), is(2L));
+        assertTrue(actual.next());
+        assertNull(actual.getValue(1, long.class));
+        assertTrue(actual.wasNull());
+        assertFalse(actual.next());
+        assertFalse(actual.next());
+        actual.close();
+        verify(resultSet).close();
+    }
+    
+    @Test
+    void assertNextWithSQLException() throws SQLException {
+        ResultSet resultSet = mockResultSet();
+        when(resultSet.next()).thenReturn(true).thenThrow(new SQLException("reason"));
+        when(resultSet.getLong(1)).thenReturn(1L);
+        JDBCPrefetchStreamQueryResult actual = new JDBCPrefetchStreamQueryResult(resultSet, databaseType, 1);
+        assertTrue(actual.next());
+        assertThrows(SQLException.class, actual::next);
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertCloseWhenBufferIsFull() throws SQLException {
+        ResultSet resultSet = mockResultSet();
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong(1)).thenReturn(1L);
+        JDBCPrefetchStreamQueryResult actual = new JDBCPrefetchStreamQueryResult(resultSet, databaseType, 2);
+        verify(resultSet, timeout(1000L).atLeast(3)).next();
+        actual.close();
+        verify(resultSet).close();
+    }
+    
+    @Test
+    void assertCloseWhenResultSetIsBlocked() throws SQLException {
+        ResultSet resultSet = mockResultSet();
+        CountDownLatch blocked = new CountDownLatch(1);
+        when(resultSet.next()).thenAnswer(invocation -> {
+            blocked.countDown();
+            new CountDownLatch(1).await();
+            return false;
+        });
+        JDBCPrefetchStreamQueryResult actual = new JDBCPrefetchStreamQueryResult(resultSet, databaseType, 1);
+        assertTimeoutPreemptively(Duration.ofSeconds(10L), () -> {
+            blocked.await();
+            actual.close();
+        });
+        verify(resultSet).close();
+    }
+    
+    private ResultSet mockResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(1);
+        when(resultSetMetaData.getColumnType(1)).thenReturn(Types.BIGINT);
+        when(resultSetMetaData.isSigned(1)).thenReturn(true);
+        when(result.getMetaData()).thenReturn(resultSetMetaData);
+        return result;
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.driver;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCStatementManager;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.fixture.jdbc.MockedDriver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DriverExecutionPrepareEngineTest {
+    
+    private final Collection<HikariDataSource> dataSources = new LinkedList<>();
+    
+    @AfterEach
+    void tearDown() {
+        dataSources.forEach(HikariDataSource::close);
+    }
+    
+    @Test
+    void assertPrepareWithIdlePool() throws SQLException {
+        Collection<ExecutionGroup<JDBCExecutionUnit>> actual = prepare(createEngine(createDataSource(4), 2, true), 4);
+        assertThat(actual.size(), is(2));
+        assertThat(getConnectionMode(actual), is(ConnectionMode.CONNECTION_STRICTLY));
+    }
+    
+    @Test
+    void assertPrepareWithBusyPool() throws SQLException {
+        HikariDataSource dataSource = createDataSource(4);
+        DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> engine = createEngine(dataSource, 2, true);
+        try (
+                Connection ignored1 = dataSource.getConnection();
+                Connection ignored2 = dataSource.getConnection();
+                Connection ignored3 = dataSource.getConnection()) {
+            Collection<ExecutionGroup<JDBCExecutionUnit>> actual = prepare(engine, 4);
+            assertThat(actual.size(), is(1));
+            assertThat(getConnectionMode(actual), is(ConnectionMode.CONNECTION_STRICTLY));
+        }
+    }
+    
+    @Test
+    void assertPrepareWithBusyPoolWhenPoolAwareDisabled() throws SQLException {
+        HikariDataSource dataSource = createDataSource(4);
+        DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> engine = createEngine(dataSource, 2, false);
+        try (
+                Connection ignored1 = dataSource.getConnection();
+                Connection ignored2 = dataSource.getConnection();
+                Connection ignored3 = dataSource.getConnection()) {
+            Collection<ExecutionGroup<JDBCExecutionUnit>> actual = prepare(engine, 4);
+            assertThat(actual.size(), is(2));
+            assertThat(getConnectionMode(actual), is(ConnectionMode.CONNECTION_STRICTLY));
+        }
+    }
+    
+    @Test
+    void assertPrepareNotExceedMaxConnectionsSizePerQuery() throws SQLException {
+        Collection<ExecutionGroup<JDBCExecutionUnit>> actual = prepare(createEngine(createDataSource(8), 1, true), 4);
+        assertThat(actual.size(), is(1));
+        assertThat(getConnectionMode(actual), is(ConnectionMode.CONNECTION_STRICTLY));
+    }
+    
+    @Test
+    void assertPrepareConcurrentlyWithSameAvailableConnectionsSize() throws Exception {
+        HikariDataSource dataSource = createDataSource(4);
+        DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> engine1 = createEngine(dataSource, 4, true);
+        DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> engine2 = createEngine(dataSource, 4, true);
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try (
+                Connection ignored1 = dataSource.getConnection();
+                Connection ignored2 = dataSource.getConnection()) {
+            Future<Collection<ExecutionGroup<JDBCExecutionUnit>>> actual1 = executorService.submit(() -> prepareAfterBarrier(engine1, barrier));
+            Future<Collection<ExecutionGroup<JDBCExecutionUnit>>> actual2 = executorService.submit(() -> prepareAfterBarrier(engine2, barrier));
+            assertThat(actual1.get(10L, TimeUnit.SECONDS).size(), is(2));
+            assertThat(actual2.get(10L, TimeUnit.SECONDS).size(), is(2));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+    
+    @Test
+    void assertPrepareWithoutPoolMetrics() throws SQLException {
+        StorageUnit storageUnit = mock(StorageUnit.class);
+        when(storageUnit.getDataSource()).thenReturn(mock(DataSource.class));
+        when(storageUnit.getStorageType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        Collection<ExecutionGroup<JDBCExecutionUnit>> actual = prepare(createEngine(storageUnit, 2, true), 4);
+        assertThat(actual.size(), is(2));
+        assertThat(getConnectionMode(actual), is(ConnectionMode.CONNECTION_STRICTLY));
+    }
+    
+    private HikariDataSource createDataSource(final int maximumPoolSize) {
+        HikariConfig config = new HikariConfig();
+        config.setDriverClassName(MockedDriver.class.getName());
+        config.setJdbcUrl("jdbc:mock");
+        config.setMaximumPoolSize(maximumPoolSize);
+        HikariDataSource result = new HikariDataSource(config);
+        dataSources.add(result);
+        return result;
+    }
+    
+    private DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> createEngine(final HikariDataSource dataSource, final int maxConnectionsSizePerQuery,
+                                                                                     final boolean poolAwareEnabled) throws SQLException {
+        StorageUnit storageUnit = mock(StorageUnit.class);
+        when(storageUnit.getDataSource()).thenReturn(dataSource);
+        when(storageUnit.getStorageType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        return createEngine(storageUnit, maxConnectionsSizePerQuery, poolAwareEnabled);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> createEngine(final StorageUnit storageUnit, final int maxConnectionsSizePerQuery,
+                                                                                     final boolean poolAwareEnabled) throws SQLException {
+        DatabaseConnectionManager<Connection> databaseConnectionManager = mock(DatabaseConnectionManager.class);
+        when(databaseConnectionManager.getConnections(eq("foo_ds"), anyInt(), anyInt(), any(ConnectionMode.class)))
+                .thenAnswer(invocation -> IntStream.range(0, invocation.getArgument(2)).mapToObj(each -> mock(Connection.class)).collect(Collectors.toList()));
+        return new DriverExecutionPrepareEngine<>(JDBCDriverType.STATEMENT, maxConnectionsSizePerQuery, poolAwareEnabled, databaseConnectionManager, mock(ExecutorJDBCStatementManager.class),
+                new StatementOption(false), Collections.emptyList(), Collections.singletonMap("foo_ds", storageUnit));
+    }
+    
+    private Collection<ExecutionGroup<JDBCExecutionUnit>> prepare(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> engine, final int executionUnitsSize) throws SQLException {
+        List<ExecutionUnit> executionUnits = IntStream.range(0, executionUnitsSize)
+                .mapToObj(each -> new ExecutionUnit("foo_ds", new SQLUnit("SELECT * FROM t_order_" + each, Collections.emptyList()))).collect(Collectors.toList());
+        ExecutionGroupContext<JDBCExecutionUnit> actual = engine.prepare(mock(RouteContext.class), executionUnits, mock(ExecutionGroupReportContext.class));
+        return actual.getInputGroups();
+    }
+    
+    private Collection<ExecutionGroup<JDBCExecutionUnit>> prepareAfterBarrier(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> engine,
+                                                                              final CyclicBarrier barrier) throws Exception {
+        barrier.await(10L, TimeUnit.SECONDS);
+        return prepare(engine, 4);
+    }
+    
+    private ConnectionMode getConnectionMode(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups) {
+        return executionGroups.iterator().next().getInputs().iterator().next().getConnectionMode();
+    }
+}
@@ -47,6 +47,8 @@ public final class GroovyInlineExpressionParser implements InlineExpressionParse
     
     private static final Map<String, Script> SCRIPTS = new ConcurrentHashMap<>();
     
+    private static final Map<String, Closure<?>> CLOSURES = new ConcurrentHashMap<>();
+    
     private static final GroovyShell SHELL = new GroovyShell();
     
     private String inlineExpression;
@@ -88,7 +90,7 @@ public final class GroovyInlineExpressionParser implements InlineExpressionParse
      */
     @Override
     public String evaluateWithArgs(final Map<String, Comparable<?>> map) {
-        Closure<?> result = ((Closure<?>) evaluate("{it -> \"" + handlePlaceHolder(inlineExpression) + "\"}")).rehydrate(new Expando(), null, null);
+        Closure<?> result = CLOSURES.computeIfAbsent(inlineExpression, key -> (Closure<?>) SHELL.parse("{it -> \"" + handlePlaceHolder(key) + "\"}").run()).rehydrate(new Expando(), null, null);
         result.setResolveStrategy(Closure.DELEGATE_ONLY);
         map.forEach(result::setProperty);
         return result.call().toString();
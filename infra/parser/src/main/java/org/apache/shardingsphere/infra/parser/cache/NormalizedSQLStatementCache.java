@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLStatementVisitorEngine;
+import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserExecutor;
+import org.apache.shardingsphere.sql.parser.core.database.template.NormalizedSQL;
+import org.apache.shardingsphere.sql.parser.core.database.template.SQLNormalizer;
+import org.apache.shardingsphere.sql.parser.core.database.template.TemplateToken;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+/**
+ * Normalized SQL statement cache.
+ * 
+ * <p>Parse tree is cached by normalized SQL, SQLs which only differ in literals share the same parse tree,
+ * and SQL statement is built by visiting the cached parse tree with literals of current SQL.</p>
+ */
+public final class NormalizedSQLStatementCache {
+    
+    private final SQLNormalizer sqlNormalizer;
+    
+    private final SQLParserExecutor sqlParserExecutor;
+    
+    private final SQLStatementVisitorEngine visitorEngine;
+    
+    private final Cache<String, ParseASTNode> parseTreeTemplateCache;
+    
+    public NormalizedSQLStatementCache(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption) {
+        sqlNormalizer = new SQLNormalizer(databaseType);
+        sqlParserExecutor = new SQLParserExecutor(databaseType);
+        visitorEngine = new SQLStatementVisitorEngine(databaseType);
+        parseTreeTemplateCache = Caffeine.newBuilder().softValues().initialCapacity(sqlStatementCacheOption.getInitialCapacity()).maximumSize(sqlStatementCacheOption.getMaximumSize())
+                .recordStats().build();
+    }
+    
+    /**
+     * Parse to SQL statement.
+     *
+     * @param sql SQL to be parsed
+     * @return SQL statement
+     */
+    public SQLStatement parse(final String sql) {
+        NormalizedSQL normalizedSQL = sqlNormalizer.normalize(sql);
+        ParseASTNode parseTreeTemplate = parseTreeTemplateCache.get(normalizedSQL.getNormalizedSQL(), key -> sqlParserExecutor.parse(sql, normalizedSQL.getTokenStream()));
+        TemplateToken.bind(normalizedSQL.getTokenStream().getTokens());
+        try {
+            return visitorEngine.visit(parseTreeTemplate);
+        } finally {
+            TemplateToken.unbind();
+        }
+    }
+    
+    /**
+     * Get cache stats.
+     *
+     * @return cache stats, including hit count and miss count
+     */
+    public CacheStats getStats() {
+        return parseTreeTemplateCache.stats();
+    }
+}
@@ -18,12 +18,16 @@
 package org.apache.shardingsphere.infra.parser.sql;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.cache.NormalizedSQLStatementCache;
 import org.apache.shardingsphere.infra.parser.cache.SQLStatementCacheBuilder;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
+import java.util.Optional;
+
 /**
  * SQL statement parser engine.
  */
@@ -33,6 +37,8 @@ public final class SQLStatementParserEngine {
     
     private final LoadingCache<String, SQLStatement> sqlStatementCache;
     
+    private final NormalizedSQLStatementCache normalizedSQLStatementCache;
+    
     @Getter
     private final CacheOption sqlStatementCacheOption;
     
@@ -42,6 +48,7 @@ public final class SQLStatementParserEngine {
     public SQLStatementParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption) {
         sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption);
         sqlStatementCache = SQLStatementCacheBuilder.build(databaseType, sqlStatementCacheOption, parseTreeCacheOption);
+        normalizedSQLStatementCache = sqlStatementCacheOption.isNormalized() ? new NormalizedSQLStatementCache(databaseType, sqlStatementCacheOption) : null;
         this.sqlStatementCacheOption = sqlStatementCacheOption;
         this.parseTreeCacheOption = parseTreeCacheOption;
     }
@@ -55,6 +62,18 @@ public final class SQLStatementParserEngine {
      */
     public SQLStatement parse(final String sql, final boolean useCache) {
         // useCache 是false
-        return useCache ? sqlStatementCache.get(sql) : sqlStatementParserExecutor.parse(sql);
+        if (!useCache) {
+            return sqlStatementParserExecutor.parse(sql);
+        }
+        return null == normalizedSQLStatementCache ? sqlStatementCache.get(sql) : normalizedSQLStatementCache.parse(sql);
+    }
+    
+    /**
+     * Find stats of normalized SQL statement cache.
+     *
+     * @return stats of normalized SQL statement cache, empty if SQL statement cache is not normalized
+     */
+    public Optional<CacheStats> findNormalizedSQLStatementCacheStats() {
+        return null == normalizedSQLStatementCache ? Optional.empty() : Optional.of(normalizedSQLStatementCache.getStats());
     }
 }
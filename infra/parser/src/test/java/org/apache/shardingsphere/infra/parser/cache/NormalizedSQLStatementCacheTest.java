@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class NormalizedSQLStatementCacheTest {
+    
+    private final NormalizedSQLStatementCache cache = new NormalizedSQLStatementCache(TypedSPILoader.getService(DatabaseType.class, "MySQL"), new CacheOption(128, 1024L, true));
+    
+    @Test
+    void assertParseWithSameLiteralType() throws ReflectiveOperationException {
+        assertThat(getWhereLiteral(cache.parse("SELECT * FROM t_order WHERE order_id = 1")), is(1));
+        assertThat(getWhereLiteral(cache.parse("SELECT * FROM t_order WHERE order_id = 1000")), is(1000));
+        assertThat(getParseTreeTemplateCacheSize(), is(1L));
+    }
+    
+    @Test
+    void assertParseWithDifferentLiteralTypes() throws ReflectiveOperationException {
+        assertThat(getWhereLiteral(cache.parse("SELECT * FROM t_order WHERE status = 1")), is(1));
+        assertThat(getWhereLiteral(cache.parse("SELECT * FROM t_order WHERE status = 'x'")), is("x"));
+        assertThat(getWhereLiteral(cache.parse("SELECT * FROM t_order WHERE status = 2")), is(2));
+        assertThat(getParseTreeTemplateCacheSize(), is(2L));
+    }
+    
+    private Object getWhereLiteral(final SQLStatement sqlStatement) {
+        BinaryOperationExpression expression = (BinaryOperationExpression) ((SelectStatement) sqlStatement).getWhere().orElseThrow(IllegalStateException::new).getExpr();
+        return ((LiteralExpressionSegment) expression.getRight()).getLiterals();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private long getParseTreeTemplateCacheSize() throws ReflectiveOperationException {
+        Cache<String, ?> parseTreeTemplateCache = (Cache<String, ?>) Plugins.getMemberAccessor().get(NormalizedSQLStatementCache.class.getDeclaredField("parseTreeTemplateCache"), cache);
+        parseTreeTemplateCache.cleanUp();
+        return parseTreeTemplateCache.estimatedSize();
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.cache.NormalizedSQLStatementCache;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SQLStatementParserEngineTest {
+    
+    private static final String SQL = "SELECT * FROM t_order WHERE order_id = 1";
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+    
+    @Test
+    void assertParseWithoutCache() throws ReflectiveOperationException {
+        SQLStatementParserEngine engine = new SQLStatementParserEngine(databaseType, new CacheOption(128, 1024L, true), new CacheOption(128, 1024L));
+        SQLStatementParserExecutor executor = mockSQLStatementParserExecutor(engine);
+        SQLStatement expected = mock(SQLStatement.class);
+        when(executor.parse(SQL)).thenReturn(expected);
+        LoadingCache<String, SQLStatement> sqlStatementCache = mockSQLStatementCache(engine);
+        NormalizedSQLStatementCache normalizedSQLStatementCache = mockNormalizedSQLStatementCache(engine);
+        assertThat(engine.parse(SQL, false), is(expected));
+        verify(sqlStatementCache, never()).get(anyString());
+        verify(normalizedSQLStatementCache, never()).parse(anyString());
+    }
+    
+    @Test
+    void assertParseWithCache() throws ReflectiveOperationException {
+        SQLStatementParserEngine engine = new SQLStatementParserEngine(databaseType, new CacheOption(128, 1024L), new CacheOption(128, 1024L));
+        SQLStatementParserExecutor executor = mockSQLStatementParserExecutor(engine);
+        LoadingCache<String, SQLStatement> sqlStatementCache = mockSQLStatementCache(engine);
+        SQLStatement expected = mock(SQLStatement.class);
+        when(sqlStatementCache.get(SQL)).thenReturn(expected);
+        assertThat(engine.parse(SQL, true), is(expected));
+        verify(executor, never()).parse(anyString());
+    }
+    
+    @Test
+    void assertParseWithNormalizedCache() throws ReflectiveOperationException {
+        SQLStatementParserEngine engine = new SQLStatementParserEngine(databaseType, new CacheOption(128, 1024L, true), new CacheOption(128, 1024L));
+        NormalizedSQLStatementCache normalizedSQLStatementCache = mockNormalizedSQLStatementCache(engine);
+        SQLStatement expected = mock(SQLStatement.class);
+        when(normalizedSQLStatementCache.parse(SQL)).thenReturn(expected);
+        LoadingCache<String, SQLStatement> sqlStatementCache = mockSQLStatementCache(engine);
+        SQLStatementParserExecutor executor = mockSQLStatementParserExecutor(engine);
+        assertThat(engine.parse(SQL, true), is(expected));
+        verify(sqlStatementCache, never()).get(anyString());
+        verify(executor, never()).parse(anyString());
+    }
+    
+    @Test
+    void assertFindNormalizedSQLStatementCacheStatsAfterRepeatParse() {
+        SQLStatementParserEngine engine = new SQLStatementParserEngine(databaseType, new CacheOption(128, 1024L, true), new CacheOption(128, 1024L));
+        engine.parse(SQL, true);
+        engine.parse("SELECT * FROM t_order WHERE order_id = 2", true);
+        CacheStats actual = engine.findNormalizedSQLStatementCacheStats().orElseThrow(IllegalStateException::new);
+        assertThat(actual.missCount(), is(1L));
+        assertThat(actual.hitCount(), is(1L));
+    }
+    
+    @Test
+    void assertFindNormalizedSQLStatementCacheStatsWithoutNormalizedCache() {
+        assertFalse(new SQLStatementParserEngine(databaseType, new CacheOption(128, 1024L), new CacheOption(128, 1024L)).findNormalizedSQLStatementCacheStats().isPresent());
+    }
+    
+    private SQLStatementParserExecutor mockSQLStatementParserExecutor(final SQLStatementParserEngine engine) throws ReflectiveOperationException {
+        SQLStatementParserExecutor result = mock(SQLStatementParserExecutor.class);
+        Plugins.getMemberAccessor().set(SQLStatementParserEngine.class.getDeclaredField("sqlStatementParserExecutor"), engine, result);
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private LoadingCache<String, SQLStatement> mockSQLStatementCache(final SQLStatementParserEngine engine) throws ReflectiveOperationException {
+        LoadingCache<String, SQLStatement> result = mock(LoadingCache.class);
+        Plugins.getMemberAccessor().set(SQLStatementParserEngine.class.getDeclaredField("sqlStatementCache"), engine, result);
+        return result;
+    }
+    
+    private NormalizedSQLStatementCache mockNormalizedSQLStatementCache(final SQLStatementParserEngine engine) throws ReflectiveOperationException {
+        NormalizedSQLStatementCache result = mock(NormalizedSQLStatementCache.class);
+        Plugins.getMemberAccessor().set(SQLStatementParserEngine.class.getDeclaredField("normalizedSQLStatementCache"), engine, result);
+        return result;
+    }
+}
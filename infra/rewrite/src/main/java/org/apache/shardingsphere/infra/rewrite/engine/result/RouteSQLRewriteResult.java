@@ -31,4 +31,10 @@ import java.util.Map;
 public final class RouteSQLRewriteResult implements SQLRewriteResult {
     
     private final Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits;
+    
+    private final boolean parametersRewritten;
+    
+    public RouteSQLRewriteResult(final Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits) {
+        this(sqlRewriteUnits, true);
+    }
 }
@@ -30,4 +30,11 @@ public interface ParameterBuilder {
      * @return parameters
      */
     List<Object> getParameters();
+    
+    /**
+     * Judge whether original parameters are rewritten.
+     *
+     * @return original parameters are rewritten or not
+     */
+    boolean isRewritten();
 }
@@ -87,6 +87,11 @@ public final class StandardParameterBuilder implements ParameterBuilder {
         return result;
     }
     
+    @Override
+    public boolean isRewritten() {
+        return !addedIndexAndParameters.isEmpty() || !replacedIndexAndParameters.isEmpty();
+    }
+    
     private List<Object> getReplacedParameters() {
         if (replacedIndexAndParameters.isEmpty()) {
             return originalParameters;
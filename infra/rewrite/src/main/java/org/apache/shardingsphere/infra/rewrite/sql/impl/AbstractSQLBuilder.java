@@ -17,75 +17,41 @@
 
 package org.apache.shardingsphere.infra.rewrite.sql.impl;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.sql.SQLBuilder;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
-import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
-import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.ComposableSQLToken;
-import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.SubstitutableColumnNameToken;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 
-import java.util.Collections;
-
 /**
  * Abstract SQL builder.
  */
-@RequiredArgsConstructor
 public abstract class AbstractSQLBuilder implements SQLBuilder {
     
     private final SQLRewriteContext context;
     
     private final RouteUnit routeUnit;
     
+    private final SQLRewriteTemplate template;
+    
+    protected AbstractSQLBuilder(final SQLRewriteContext context, final RouteUnit routeUnit) {
+        this(context, routeUnit, null);
+    }
+    
+    protected AbstractSQLBuilder(final SQLRewriteContext context, final RouteUnit routeUnit, final SQLRewriteTemplate template) {
+        this.context = context;
+        this.routeUnit = routeUnit;
+        this.template = template;
+    }
+    
     @Override
     public final String toSQL() {
         // Token 是否为空
         if (context.getSqlTokens().isEmpty()) {
             return context.getSql();
         }
-        Collections.sort(context.getSqlTokens());
-        StringBuilder result = new StringBuilder();
-        // 生成不包含 Token 的SQL
-        // SELECT  id,customer_id,product_id,product_name,product_price,quantity,total_price,order_time,delivery_time,status,address,phone  FROM
-        result.append(context.getSql(), 0, context.getSqlTokens().get(0).getStartIndex());
-        // 循环所有 Token
-        for (SQLToken each : context.getSqlTokens()) {
-            if (each instanceof ComposableSQLToken) {
-                result.append(getComposableSQLTokenText((ComposableSQLToken) each));
-            } else if (each instanceof SubstitutableColumnNameToken) {
-                result.append(((SubstitutableColumnNameToken) each).toString(routeUnit));
-            } else {
-                // 添加 令牌对应的改写SQL
-                result.append(getSQLTokenText(each));
-            }
-            result.append(getConjunctionText(each));
-        }
-        return result.toString();
+        // 模板只包含 Token 之间的 SQL 片段和与路由相关的 Token, 由路由单元填充
+        return (null == template ? new SQLRewriteTemplate(context) : template).fill(routeUnit, this::getSQLTokenText);
     }
     
     protected abstract String getSQLTokenText(SQLToken sqlToken);
-    
-    private String getComposableSQLTokenText(final ComposableSQLToken composableSQLToken) {
-        StringBuilder result = new StringBuilder();
-        for (SQLToken each : composableSQLToken.getSqlTokens()) {
-            result.append(getSQLTokenText(each));
-            result.append(getConjunctionText(each));
-        }
-        return result.toString();
-    }
-    
-    private String getConjunctionText(final SQLToken sqlToken) {
-        return context.getSql().substring(getStartIndex(sqlToken), getStopIndex(sqlToken));
-    }
-    
-    private int getStartIndex(final SQLToken sqlToken) {
-        int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
-        return Math.min(startIndex, context.getSql().length());
-    }
-    
-    private int getStopIndex(final SQLToken sqlToken) {
-        int currentSQLTokenIndex = context.getSqlTokens().indexOf(sqlToken);
-        return context.getSqlTokens().size() - 1 == currentSQLTokenIndex ? context.getSql().length() : context.getSqlTokens().get(currentSQLTokenIndex + 1).getStartIndex();
-    }
 }
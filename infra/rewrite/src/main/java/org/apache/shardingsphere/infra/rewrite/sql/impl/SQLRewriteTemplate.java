@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql.impl;
+
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.RouteUnitAware;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.ComposableSQLToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.SubstitutableColumnNameToken;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * SQL rewrite template.
+ * 
+ * <p>SQL tokens of SQL rewrite context are compiled once into literal fragments and route unit aware slots,
+ * so that SQL builders of every route unit only need to render the slots.</p>
+ */
+public final class SQLRewriteTemplate {
+    
+    private final String[] fragments;
+    
+    private final SQLToken[] slots;
+    
+    private final boolean[] substitutableColumnNameSlots;
+    
+    private final int literalLength;
+    
+    public SQLRewriteTemplate(final SQLRewriteContext context) {
+        TemplateCompiler compiler = new TemplateCompiler();
+        String sql = context.getSql();
+        if (context.getSqlTokens().isEmpty()) {
+            compiler.literal.append(sql);
+        } else {
+            Collections.sort(context.getSqlTokens());
+            List<SQLToken> sqlTokens = new ArrayList<>(context.getSqlTokens());
+            compiler.literal.append(sql, 0, sqlTokens.get(0).getStartIndex());
+            for (SQLToken each : sqlTokens) {
+                if (each instanceof ComposableSQLToken) {
+                    for (SQLToken composed : ((ComposableSQLToken) each).getSqlTokens()) {
+                        compiler.appendSQLToken(composed, false);
+                        compiler.literal.append(getConjunctionText(sql, sqlTokens, composed));
+                    }
+                } else {
+                    compiler.appendSQLToken(each, each instanceof SubstitutableColumnNameToken);
+                }
+                compiler.literal.append(getConjunctionText(sql, sqlTokens, each));
+            }
+        }
+        compiler.appendSlot(null, false);
+        fragments = compiler.fragments.toArray(new String[0]);
+        slots = compiler.slots.toArray(new SQLToken[0]);
+        substitutableColumnNameSlots = new boolean[fragments.length];
+        int length = 0;
+        for (int i = 0; i < fragments.length; i++) {
+            substitutableColumnNameSlots[i] = compiler.substitutableColumnNameSlots.get(i);
+            length += fragments[i].length();
+        }
+        literalLength = length;
+    }
+    
+    private String getConjunctionText(final String sql, final List<SQLToken> sqlTokens, final SQLToken sqlToken) {
+        return sql.substring(getStartIndex(sql, sqlToken), getStopIndex(sql, sqlTokens, sqlToken));
+    }
+    
+    private int getStartIndex(final String sql, final SQLToken sqlToken) {
+        int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
+        return Math.min(startIndex, sql.length());
+    }
+    
+    private int getStopIndex(final String sql, final List<SQLToken> sqlTokens, final SQLToken sqlToken) {
+        int currentSQLTokenIndex = sqlTokens.indexOf(sqlToken);
+        return sqlTokens.size() - 1 == currentSQLTokenIndex ? sql.length() : sqlTokens.get(currentSQLTokenIndex + 1).getStartIndex();
+    }
+    
+    /**
+     * Fill slots of template.
+     *
+     * @param routeUnit route unit
+     * @param routeUnitAwareSQLTokenRenderer renderer of route unit aware SQL token
+     * @return filled SQL
+     */
+    public String fill(final RouteUnit routeUnit, final Function<SQLToken, String> routeUnitAwareSQLTokenRenderer) {
+        String[] slotTexts = new String[slots.length];
+        int length = literalLength;
+        for (int i = 0; i < slots.length; i++) {
+            if (null != slots[i]) {
+                slotTexts[i] = String.valueOf(substitutableColumnNameSlots[i] ? ((SubstitutableColumnNameToken) slots[i]).toString(routeUnit) : routeUnitAwareSQLTokenRenderer.apply(slots[i]));
+                length += slotTexts[i].length();
+            }
+        }
+        StringBuilder result = new StringBuilder(length);
+        for (int i = 0; i < fragments.length; i++) {
+            result.append(fragments[i]);
+            if (null != slotTexts[i]) {
+                result.append(slotTexts[i]);
+            }
+        }
+        return result.toString();
+    }
+    
+    private static final class TemplateCompiler {
+        
+        private final List<String> fragments = new ArrayList<>();
+        
+        private final List<SQLToken> slots = new ArrayList<>();
+        
+        private final List<Boolean> substitutableColumnNameSlots = new ArrayList<>();
+        
+        private final StringBuilder literal = new StringBuilder();
+        
+        private void appendSQLToken(final SQLToken sqlToken, final boolean isSubstitutableColumnName) {
+            if (isSubstitutableColumnName || sqlToken instanceof RouteUnitAware) {
+                appendSlot(sqlToken, isSubstitutableColumnName);
+            } else {
+                literal.append(sqlToken);
+            }
+        }
+        
+        private void appendSlot(final SQLToken sqlToken, final boolean isSubstitutableColumnName) {
+            fragments.add(literal.toString());
+            slots.add(sqlToken);
+            substitutableColumnNameSlots.add(isSubstitutableColumnName);
+            literal.setLength(0);
+        }
+    }
+}
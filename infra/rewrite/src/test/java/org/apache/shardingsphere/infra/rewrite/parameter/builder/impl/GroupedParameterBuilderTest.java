@@ -26,6 +26,8 @@ import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class GroupedParameterBuilderTest {
     
@@ -60,6 +62,21 @@ class GroupedParameterBuilderTest {
         assertThat(actual.getDerivedColumnName(), is(Optional.of(derivedColumnName)));
     }
     
+    @Test
+    void assertIsRewritten() {
+        GroupedParameterBuilder actual = new GroupedParameterBuilder(createGroupedParameters(), createGenericParameters());
+        assertFalse(actual.isRewritten());
+        actual.getParameterBuilders().get(1).addReplacedParameters(0, 55);
+        assertTrue(actual.isRewritten());
+    }
+    
+    @Test
+    void assertIsRewrittenWithDerivedColumnName() {
+        GroupedParameterBuilder actual = new GroupedParameterBuilder(createGroupedParameters(), createGenericParameters());
+        actual.setDerivedColumnName("derivedColumnName");
+        assertTrue(actual.isRewritten());
+    }
+    
     private List<Object> createGenericParameters() {
         return new LinkedList<>(Arrays.asList(7, 8));
     }
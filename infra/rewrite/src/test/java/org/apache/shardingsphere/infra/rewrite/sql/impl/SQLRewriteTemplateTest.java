@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql.impl;
+
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.sql.fixture.RouteUnitAwareSQLTokenFixture;
+import org.apache.shardingsphere.infra.rewrite.sql.fixture.SQLTokenFixture;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SQLRewriteTemplateTest {
+    
+    @Test
+    void assertFillWithoutSQLToken() {
+        SQLRewriteContext context = mockContext("SELECT * FROM tbl WHERE id=?", Collections.emptyList());
+        assertThat(new SQLRewriteTemplate(context).fill(createRouteUnit("tbl_0"), SQLToken::toString), is("SELECT * FROM tbl WHERE id=?"));
+    }
+    
+    @Test
+    void assertFillWithUnsortedSQLTokens() {
+        SQLRewriteContext context = mockContext("SELECT * FROM tbl WHERE id=? AND name=?", new ArrayList<>(Arrays.asList(new SQLTokenFixture(24, 25), new RouteUnitAwareSQLTokenFixture(14, 16))));
+        SQLRewriteTemplate template = new SQLRewriteTemplate(context);
+        RouteUnit routeUnit0 = createRouteUnit("tbl_0");
+        RouteUnit routeUnit1 = createRouteUnit("tbl_1");
+        assertThat(template.fill(routeUnit0, each -> renderSQLToken(each, routeUnit0)), is("SELECT * FROM tbl_0 WHERE XXX=? AND name=?"));
+        assertThat(template.fill(routeUnit1, each -> renderSQLToken(each, routeUnit1)), is("SELECT * FROM tbl_1 WHERE XXX=? AND name=?"));
+        assertThat(context.getSqlTokens().get(0).getStartIndex(), is(14));
+    }
+    
+    @Test
+    void assertFillSameAsRouteSQLBuilderWithoutTemplate() {
+        SQLRewriteContext context = mockContext("SELECT * FROM tbl t1 JOIN tbl t2 ON t1.id=t2.id",
+                new ArrayList<>(Arrays.asList(new RouteUnitAwareSQLTokenFixture(14, 16), new RouteUnitAwareSQLTokenFixture(26, 28), new SQLTokenFixture(39, 40))));
+        RouteUnit routeUnit = createRouteUnit("tbl_0");
+        assertThat(new RouteSQLBuilder(context, routeUnit, new SQLRewriteTemplate(context)).toSQL(), is(new RouteSQLBuilder(context, routeUnit).toSQL()));
+        assertThat(new RouteSQLBuilder(context, routeUnit).toSQL(), is("SELECT * FROM tbl_0 t1 JOIN tbl_0 t2 ON t1.XXX=t2.id"));
+    }
+    
+    private SQLRewriteContext mockContext(final String sql, final List<SQLToken> sqlTokens) {
+        SQLRewriteContext result = mock(SQLRewriteContext.class);
+        when(result.getSql()).thenReturn(sql);
+        when(result.getSqlTokens()).thenReturn(sqlTokens);
+        return result;
+    }
+    
+    private String renderSQLToken(final SQLToken sqlToken, final RouteUnit routeUnit) {
+        return ((RouteUnitAwareSQLTokenFixture) sqlToken).toString(routeUnit);
+    }
+    
+    private RouteUnit createRouteUnit(final String actualTableName) {
+        return new RouteUnit(mock(RouteMapper.class), Collections.singletonList(new RouteMapper("tbl", actualTableName)));
+    }
+}
@@ -25,11 +25,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Batch execution unit.
@@ -42,7 +41,9 @@ public final class BatchExecutionUnit {
     
     private final ExecutionUnit executionUnit;
     
-    private final Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = new LinkedHashMap<>();
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private int[] jdbcAddBatchTimesByActualCall = new int[8];
     
     @Getter(AccessLevel.NONE)
     private int actualCallAddBatchTimes;
@@ -53,7 +54,22 @@ public final class BatchExecutionUnit {
      * @param jdbcAddBatchTimes times of use JDBC API call addBatch
      */
     public void mapAddBatchCount(final int jdbcAddBatchTimes) {
-        jdbcAndActualAddBatchCallTimesMap.put(jdbcAddBatchTimes, actualCallAddBatchTimes++);
+        if (actualCallAddBatchTimes == jdbcAddBatchTimesByActualCall.length) {
+            jdbcAddBatchTimesByActualCall = Arrays.copyOf(jdbcAddBatchTimesByActualCall, actualCallAddBatchTimes << 1);
+        }
+        jdbcAddBatchTimesByActualCall[actualCallAddBatchTimes++] = jdbcAddBatchTimes;
+    }
+    
+    /**
+     * Accumulate actual execute result into counts of JDBC API call addBatch.
+     *
+     * @param executeResult actual execute result, null means no result
+     * @param addBatchCounts counts of JDBC API call addBatch to be accumulated
+     */
+    public void accumulate(final int[] executeResult, final int[] addBatchCounts) {
+        for (int i = 0; i < actualCallAddBatchTimes; i++) {
+            addBatchCounts[jdbcAddBatchTimesByActualCall[i]] += null == executeResult ? 0 : executeResult[i];
+        }
     }
     
     /**
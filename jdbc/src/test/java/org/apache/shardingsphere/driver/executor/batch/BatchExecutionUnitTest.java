@@ -47,6 +47,20 @@ class BatchExecutionUnitTest {
         assertThat(actual.get(0).get(0), is(1));
     }
     
+    @Test
+    void assertAccumulate() {
+        BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Collections.singletonList(1))));
+        for (int i = 0; i < 20; i += 2) {
+            batchExecutionUnit.mapAddBatchCount(i);
+        }
+        int[] actual = new int[20];
+        batchExecutionUnit.accumulate(new int[]{1, 1, 1, 1, 1, 1, 1, 1, 1, 1}, actual);
+        batchExecutionUnit.accumulate(null, actual);
+        assertThat(actual[0], is(1));
+        assertThat(actual[1], is(0));
+        assertThat(actual[18], is(1));
+    }
+    
     @Test
     void assertEquals() {
         BatchExecutionUnit actual = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Collections.singletonList(1))));
@@ -60,6 +74,6 @@ class BatchExecutionUnitTest {
         BatchExecutionUnit actual = new BatchExecutionUnit(executionUnit);
         assertThat(actual.toString(), is(String.format("BatchExecutionUnit(executionUnit=ExecutionUnit"
                 + "(dataSourceName=%s, sqlUnit=SQLUnit(sql=%s, parameters=[%d], tableRouteMappers=[])), "
-                + "jdbcAndActualAddBatchCallTimesMap={}, actualCallAddBatchTimes=0)", DATA_SOURCE_NAME, SQL, 1, "null")));
+                + "actualCallAddBatchTimes=0)", DATA_SOURCE_NAME, SQL, 1, "null")));
     }
 }
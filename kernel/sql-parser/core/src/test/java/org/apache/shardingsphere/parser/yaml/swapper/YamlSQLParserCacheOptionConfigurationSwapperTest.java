@@ -23,14 +23,17 @@ import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class YamlSQLParserCacheOptionConfigurationSwapperTest {
     
     @Test
     void assertSwapToYamlConfiguration() {
-        YamlSQLParserCacheOptionRuleConfiguration actual = new YamlSQLParserCacheOptionConfigurationSwapper().swapToYamlConfiguration(new CacheOption(2, 5));
+        YamlSQLParserCacheOptionRuleConfiguration actual = new YamlSQLParserCacheOptionConfigurationSwapper().swapToYamlConfiguration(new CacheOption(2, 5, true));
         assertThat(actual.getInitialCapacity(), is(2));
         assertThat(actual.getMaximumSize(), is(5L));
+        assertTrue(actual.isNormalized());
     }
     
     @Test
@@ -41,5 +44,6 @@ class YamlSQLParserCacheOptionConfigurationSwapperTest {
         CacheOption actual = new YamlSQLParserCacheOptionConfigurationSwapper().swapToObject(cacheOptionRuleConfig);
         assertThat(actual.getInitialCapacity(), is(2));
         assertThat(actual.getMaximumSize(), is(5L));
+        assertFalse(actual.isNormalized());
     }
 }
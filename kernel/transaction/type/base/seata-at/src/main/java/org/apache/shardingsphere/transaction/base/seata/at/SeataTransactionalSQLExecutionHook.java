@@ -32,6 +32,7 @@ public final class SeataTransactionalSQLExecutionHook implements SQLExecutionHoo
     
     @Override
     public void start(final String dataSourceName, final String sql, final List<Object> params, final ConnectionProperties connectionProps, final boolean isTrunkThread) {
+        seataBranch = false;
         if (isTrunkThread) {
             if (RootContext.inGlobalTransaction()) {
                 SeataXIDContext.set(RootContext.getXID());
@@ -69,4 +69,17 @@ class SeataTransactionalSQLExecutionHookTest {
         executionHook.finishFailure(new RuntimeException(""));
         assertFalse(RootContext.inGlobalTransaction());
     }
+    
+    @Test
+    void assertTrunkThreadExecuteAfterChildThreadExecuteWithReusedHook() {
+        RootContext.bind("xid");
+        executionHook.start("ds", "SELECT 1", Collections.emptyList(), connectionProps, true);
+        RootContext.unbind();
+        executionHook.start("ds", "SELECT 1", Collections.emptyList(), connectionProps, false);
+        executionHook.finishSuccess();
+        RootContext.bind("xid");
+        executionHook.start("ds", "SELECT 1", Collections.emptyList(), connectionProps, true);
+        executionHook.finishSuccess();
+        assertTrue(RootContext.inGlobalTransaction());
+    }
 }
@@ -33,8 +33,16 @@ public final class CacheOption {
     
     private final long maximumSize;
     
+    private final boolean normalized;
+    
+    public CacheOption(final int initialCapacity, final long maximumSize) {
+        this(initialCapacity, maximumSize, false);
+    }
+    
     @Override
     public String toString() {
-        return String.format("initialCapacity: %d, maximumSize: %d", initialCapacity, maximumSize);
+        return normalized
+                ? String.format("initialCapacity: %d, maximumSize: %d, normalized: true", initialCapacity, maximumSize)
+                : String.format("initialCapacity: %d, maximumSize: %d", initialCapacity, maximumSize);
     }
 }
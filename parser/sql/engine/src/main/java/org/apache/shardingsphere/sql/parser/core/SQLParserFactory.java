@@ -28,6 +28,7 @@ import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.ConsoleErrorListener;
 import org.antlr.v4.runtime.Lexer;
 import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.TokenFactory;
 import org.antlr.v4.runtime.TokenStream;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
@@ -52,6 +53,31 @@ public final class SQLParserFactory {
         return createSQLParser(createTokenStream(sql, lexerClass), parserClass);
     }
     
+    /**
+     * Create new instance of SQL parser with lexed token stream.
+     *
+     * @param tokenStream lexed token stream
+     * @param parserClass parser class
+     * @return created instance
+     */
+    public static SQLParser newInstance(final TokenStream tokenStream, final Class<? extends SQLParser> parserClass) {
+        return createSQLParser(tokenStream, parserClass);
+    }
+    
+    /**
+     * Create new instance of token stream.
+     *
+     * @param sql SQL
+     * @param lexerClass lexer class
+     * @param tokenFactory token factory
+     * @return created instance
+     */
+    public static CommonTokenStream newTokenStream(final String sql, final Class<? extends SQLLexer> lexerClass, final TokenFactory<?> tokenFactory) {
+        CommonTokenStream result = createTokenStream(sql, lexerClass);
+        ((Lexer) result.getTokenSource()).setTokenFactory(tokenFactory);
+        return result;
+    }
+    
     @SneakyThrows(ReflectiveOperationException.class)
     private static SQLParser createSQLParser(final TokenStream tokenStream, final Class<? extends SQLParser> parserClass) {
         SQLParser result = parserClass.getConstructor(TokenStream.class).newInstance(tokenStream);
@@ -61,7 +87,7 @@ public final class SQLParserFactory {
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private static TokenStream createTokenStream(final String sql, final Class<? extends SQLLexer> lexerClass) {
+    private static CommonTokenStream createTokenStream(final String sql, final Class<? extends SQLLexer> lexerClass) {
         Lexer lexer = (Lexer) lexerClass.getConstructor(CharStream.class).newInstance(getSQLCharStream(sql));
         lexer.removeErrorListener(ConsoleErrorListener.INSTANCE);
         return new CommonTokenStream(lexer);
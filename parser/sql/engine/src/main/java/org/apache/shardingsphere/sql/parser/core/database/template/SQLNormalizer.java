@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.template;
+
+import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.Vocabulary;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.sql.parser.core.SQLParserFactory;
+import org.apache.shardingsphere.sql.parser.spi.DialectSQLParserFacade;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+
+/**
+ * SQL normalizer.
+ * 
+ * <p>Literals are replaced with placeholder marked by literal token type, SQLs with same normalized SQL have the same parse tree shape.</p>
+ */
+@RequiredArgsConstructor
+public final class SQLNormalizer {
+    
+    private static final String LITERAL_PLACEHOLDER = "?";
+    
+    private static final Collection<String> LITERAL_TOKEN_NAMES = new HashSet<>(Arrays.asList(
+            "STRING_", "SINGLE_QUOTED_TEXT", "NCHAR_TEXT", "UCHAR_TEXT", "NUMBER_", "INTEGER_", "INT_NUM_", "FLOAT_NUM_", "DECIMAL_NUM_", "HEX_DIGIT_", "BIT_NUM_"));
+    
+    private final DatabaseType databaseType;
+    
+    /**
+     * Normalize SQL.
+     *
+     * @param sql SQL to be normalized
+     * @return normalized SQL
+     */
+    public NormalizedSQL normalize(final String sql) {
+        DialectSQLParserFacade sqlParserFacade = DatabaseTypedSPILoader.getService(DialectSQLParserFacade.class, databaseType);
+        CommonTokenStream tokenStream = SQLParserFactory.newTokenStream(sql, sqlParserFacade.getLexerClass(), TemplateTokenFactory.getInstance());
+        tokenStream.fill();
+        Vocabulary vocabulary = ((Lexer) tokenStream.getTokenSource()).getVocabulary();
+        StringBuilder normalizedSQL = new StringBuilder(sql.length());
+        for (Token each : tokenStream.getTokens()) {
+            if (Token.EOF == each.getType()) {
+                break;
+            }
+            if (0 != normalizedSQL.length()) {
+                normalizedSQL.append(' ');
+            }
+            String symbolicName = vocabulary.getSymbolicName(each.getType());
+            if (isLiteral(symbolicName, each)) {
+                normalizedSQL.append(LITERAL_PLACEHOLDER).append(symbolicName);
+            } else {
+                normalizedSQL.append(each.getText());
+            }
+        }
+        return new NormalizedSQL(normalizedSQL.toString(), tokenStream);
+    }
+    
+    private boolean isLiteral(final String symbolicName, final Token token) {
+        return Token.DEFAULT_CHANNEL == token.getChannel() && LITERAL_TOKEN_NAMES.contains(symbolicName);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.template;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.Pair;
+
+import java.util.List;
+
+/**
+ * Template token.
+ * 
+ * <p>Parse tree built from template tokens can be visited again for another SQL with the same normalized SQL,
+ * all token attributes are read from the token bound to current thread with the same token index.</p>
+ */
+public final class TemplateToken extends CommonToken {
+    
+    private static final long serialVersionUID = -6540584627226591562L;
+    
+    private static final ThreadLocal<List<? extends Token>> BOUND_TOKENS = new ThreadLocal<>();
+    
+    public TemplateToken(final Pair<TokenSource, CharStream> source, final int type, final int channel, final int start, final int stop) {
+        super(source, type, channel, start, stop);
+    }
+    
+    public TemplateToken(final int type, final String text) {
+        super(type, text);
+    }
+    
+    /**
+     * Bind tokens to current thread.
+     *
+     * @param tokens tokens to be bound
+     */
+    public static void bind(final List<? extends Token> tokens) {
+        BOUND_TOKENS.set(tokens);
+    }
+    
+    /**
+     * Unbind tokens from current thread.
+     */
+    public static void unbind() {
+        BOUND_TOKENS.remove();
+    }
+    
+    @Override
+    public String getText() {
+        Token boundToken = findBoundToken();
+        return null == boundToken ? super.getText() : boundToken.getText();
+    }
+    
+    @Override
+    public int getStartIndex() {
+        Token boundToken = findBoundToken();
+        return null == boundToken ? super.getStartIndex() : boundToken.getStartIndex();
+    }
+    
+    @Override
+    public int getStopIndex() {
+        Token boundToken = findBoundToken();
+        return null == boundToken ? super.getStopIndex() : boundToken.getStopIndex();
+    }
+    
+    @Override
+    public int getLine() {
+        Token boundToken = findBoundToken();
+        return null == boundToken ? super.getLine() : boundToken.getLine();
+    }
+    
+    @Override
+    public int getCharPositionInLine() {
+        Token boundToken = findBoundToken();
+        return null == boundToken ? super.getCharPositionInLine() : boundToken.getCharPositionInLine();
+    }
+    
+    @Override
+    public CharStream getInputStream() {
+        Token boundToken = findBoundToken();
+        return null == boundToken ? super.getInputStream() : boundToken.getInputStream();
+    }
+    
+    private Token findBoundToken() {
+        List<? extends Token> boundTokens = BOUND_TOKENS.get();
+        if (null == boundTokens || index < 0 || index >= boundTokens.size()) {
+            return null;
+        }
+        Token result = boundTokens.get(index);
+        return this == result ? null : result;
+    }
+}
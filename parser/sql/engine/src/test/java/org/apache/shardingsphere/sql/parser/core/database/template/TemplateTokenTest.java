@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.template;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class TemplateTokenTest {
+    
+    @AfterEach
+    void tearDown() {
+        TemplateToken.unbind();
+    }
+    
+    @Test
+    void assertGetTextWithoutBoundTokens() {
+        assertThat(createToken("1", 10, 10).getText(), is("1"));
+    }
+    
+    @Test
+    void assertGetTextWithBoundTokens() {
+        TemplateToken templateToken = createToken("1", 10, 10);
+        TemplateToken.bind(Collections.singletonList(createToken("12345", 10, 14)));
+        assertThat(templateToken.getText(), is("12345"));
+        assertThat(templateToken.getStartIndex(), is(10));
+        assertThat(templateToken.getStopIndex(), is(14));
+    }
+    
+    @Test
+    void assertGetTextWithSelfBound() {
+        TemplateToken templateToken = createToken("1", 10, 10);
+        TemplateToken.bind(Collections.singletonList(templateToken));
+        assertThat(templateToken.getText(), is("1"));
+    }
+    
+    private TemplateToken createToken(final String text, final int start, final int stop) {
+        TemplateToken result = TemplateTokenFactory.getInstance().create(1, text);
+        result.setTokenIndex(0);
+        result.setStartIndex(start);
+        result.setStopIndex(stop);
+        return result;
+    }
+}
@@ -27,6 +27,7 @@ import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatem
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.binder.context.type.CursorAvailable;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.connection.kernel.ExecutionPlanCache;
 import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.connection.refresher.MetaDataRefreshEngine;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
@@ -39,6 +40,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorEx
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCPrefetchStreamQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
@@ -99,6 +101,8 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
     
     private final Collection<ResultSet> cachedResultSets = Collections.newSetFromMap(new ConcurrentHashMap<>());
     
+    private final Collection<JDBCPrefetchStreamQueryResult> cachedPrefetchQueryResults = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    
     private final String driverType;
     
     private final ShardingSphereDatabase database;
@@ -109,6 +113,8 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
     
     private final ProxyDatabaseConnectionManager databaseConnectionManager;
     
+    private final ExecutionPlanCache executionPlanCache;
+    
     private List<QueryHeader> queryHeaders;
     
     private MergedResult mergedResult;
@@ -121,6 +127,7 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         this.queryContext = queryContext;
         this.selectContainsEnhancedTable = sqlStatementContext instanceof SelectStatementContext && ((SelectStatementContext) sqlStatementContext).isContainsEnhancedTable();
         this.databaseConnectionManager = databaseConnectionManager;
+        executionPlanCache = databaseConnectionManager.getConnectionSession().getExecutionPlanCache();
         if (sqlStatementContext instanceof CursorAvailable) {
             prepareCursorStatementContext((CursorAvailable) sqlStatementContext, databaseConnectionManager.getConnectionSession());
         }
@@ -154,6 +161,15 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         cachedResultSets.add(resultSet);
     }
     
+    /**
+     * Add prefetch stream query result, which is closed before result sets to stop reading ahead.
+     *
+     * @param queryResult prefetch stream query result to be added
+     */
+    public void add(final JDBCPrefetchStreamQueryResult queryResult) {
+        cachedPrefetchQueryResults.add(queryResult);
+    }
+    
     /**
      * Execute to database.
      *
@@ -175,6 +191,10 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
     
     private ExecutionContext generateExecutionContext() {
         ShardingSphereMetaData metaData = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData();
+        if (null != executionPlanCache && metaData.getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_BACKEND_EXECUTION_PLAN_CACHE_SIZE) > 0) {
+            return new KernelProcessor().generateExecutionContext(queryContext, database, metaData.getGlobalRuleMetaData(), metaData.getProps(),
+                    databaseConnectionManager.getConnectionSession().getConnectionContext(), executionPlanCache);
+        }
         return new KernelProcessor().generateExecutionContext(queryContext, database, metaData.getGlobalRuleMetaData(), metaData.getProps(),
                 databaseConnectionManager.getConnectionSession().getConnectionContext());
     }
@@ -237,8 +257,9 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
     
     private DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> createDriverExecutionPrepareEngine(final boolean isReturnGeneratedKeys, final MetaDataContexts metaData) {
         int maxConnectionsSizePerQuery = metaData.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
+        boolean poolAwareEnabled = metaData.getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY_POOL_AWARE_ENABLED);
         JDBCBackendStatement statementManager = (JDBCBackendStatement) databaseConnectionManager.getConnectionSession().getStatementManager();
-        return new DriverExecutionPrepareEngine<>(driverType, maxConnectionsSizePerQuery, databaseConnectionManager, statementManager,
+        return new DriverExecutionPrepareEngine<>(driverType, maxConnectionsSizePerQuery, poolAwareEnabled, databaseConnectionManager, statementManager,
                 new StatementOption(isReturnGeneratedKeys), metaData.getMetaData().getDatabase(databaseConnectionManager.getConnectionSession().getDatabaseName()).getRuleMetaData().getRules(),
                 metaData.getMetaData().getDatabase(databaseConnectionManager.getConnectionSession().getDatabaseName()).getResourceMetaData().getStorageUnits());
     }
@@ -389,6 +410,14 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
     
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
+        for (JDBCPrefetchStreamQueryResult each : cachedPrefetchQueryResults) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        cachedPrefetchQueryResults.clear();
         for (ResultSet each : cachedResultSets) {
             try {
                 each.close();
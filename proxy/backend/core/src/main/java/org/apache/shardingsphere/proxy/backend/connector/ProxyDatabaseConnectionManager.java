@@ -18,8 +18,6 @@
 package org.apache.shardingsphere.proxy.backend.connector;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.LinkedHashMultimap;
-import com.google.common.collect.Multimap;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
@@ -43,6 +41,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -55,7 +54,7 @@ public final class ProxyDatabaseConnectionManager implements OnlineDatabaseConne
     
     private final ConnectionSession connectionSession;
     
-    private final Multimap<String, Connection> cachedConnections = LinkedHashMultimap.create();
+    private final Map<String, List<Connection>> cachedConnections = new ConcurrentHashMap<>();
     
     private final Collection<ProxyBackendHandler> backendHandlers = Collections.newSetFromMap(new ConcurrentHashMap<>(64));
     
@@ -72,34 +71,31 @@ public final class ProxyDatabaseConnectionManager implements OnlineDatabaseConne
     @Override
     public List<Connection> getConnections(final String dataSourceName, final int connectionOffset, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
         Preconditions.checkNotNull(connectionSession.getDatabaseName(), "Current database name is null.");
-        Collection<Connection> connections;
-        synchronized (cachedConnections) {
-            connections = cachedConnections.get(connectionSession.getDatabaseName().toLowerCase() + "." + dataSourceName);
-        }
-        List<Connection> result;
+        String cacheKey = connectionSession.getDatabaseName().toLowerCase() + "." + dataSourceName;
+        List<Connection> connections = cachedConnections.getOrDefault(cacheKey, Collections.emptyList());
         int maxConnectionSize = connectionOffset + connectionSize;
         if (connections.size() >= maxConnectionSize) {
-            result = new ArrayList<>(connections).subList(connectionOffset, maxConnectionSize);
-        } else if (connections.isEmpty()) {
-            Collection<Connection> newConnections = createNewConnections(dataSourceName, maxConnectionSize, connectionMode);
-            result = new ArrayList<>(newConnections).subList(connectionOffset, maxConnectionSize);
-            synchronized (cachedConnections) {
-                cachedConnections.putAll(connectionSession.getDatabaseName().toLowerCase() + "." + dataSourceName, newConnections);
-            }
+            return connections.subList(connectionOffset, maxConnectionSize);
+        }
+        List<Connection> newConnections = createNewConnections(dataSourceName, maxConnectionSize - connections.size(), connectionMode);
+        cachedConnections.merge(cacheKey, Collections.unmodifiableList(newConnections), this::concatConnections);
+        List<Connection> result = concatConnections(connections, newConnections).subList(connectionOffset, maxConnectionSize);
+        if (connections.isEmpty()) {
             executeTransactionHooksAfterCreateConnections(result);
-        } else {
-            List<Connection> allConnections = new ArrayList<>(maxConnectionSize);
-            allConnections.addAll(connections);
-            List<Connection> newConnections = createNewConnections(dataSourceName, maxConnectionSize - connections.size(), connectionMode);
-            allConnections.addAll(newConnections);
-            result = allConnections.subList(connectionOffset, maxConnectionSize);
-            synchronized (cachedConnections) {
-                cachedConnections.putAll(connectionSession.getDatabaseName().toLowerCase() + "." + dataSourceName, newConnections);
-            }
         }
         return result;
     }
     
+    private List<Connection> concatConnections(final List<Connection> connections, final List<Connection> newConnections) {
+        if (connections.isEmpty()) {
+            return newConnections;
+        }
+        List<Connection> result = new ArrayList<>(connections.size() + newConnections.size());
+        result.addAll(connections);
+        result.addAll(newConnections);
+        return Collections.unmodifiableList(result);
+    }
+    
     private void executeTransactionHooksAfterCreateConnections(final List<Connection> result) throws SQLException {
         if (connectionSession.getTransactionStatus().isInTransaction()) {
             for (TransactionHook each : transactionHooks) {
@@ -193,13 +189,30 @@ public final class ProxyDatabaseConnectionManager implements OnlineDatabaseConne
         return result;
     }
     
+    /**
+     * Get cached connections of all data sources.
+     *
+     * @return cached connections
+     */
+    public Collection<Connection> getCachedConnections() {
+        Collection<Connection> result = new LinkedList<>();
+        for (List<Connection> each : cachedConnections.values()) {
+            result.addAll(each);
+        }
+        return result;
+    }
+    
     /**
      * Get connection size.
      *
      * @return connection size
      */
     public int getConnectionSize() {
-        return cachedConnections.values().size();
+        int result = 0;
+        for (List<Connection> each : cachedConnections.values()) {
+            result += each.size();
+        }
+        return result;
     }
     
     /**
@@ -305,19 +318,17 @@ public final class ProxyDatabaseConnectionManager implements OnlineDatabaseConne
      */
     public Collection<SQLException> closeConnections(final boolean forceRollback) {
         Collection<SQLException> result = new LinkedList<>();
-        synchronized (cachedConnections) {
-            resetSessionVariablesIfNecessary(cachedConnections.values(), result);
-            for (Connection each : cachedConnections.values()) {
-                try {
-                    if (forceRollback && connectionSession.getTransactionStatus().isInTransaction()) {
-                        each.rollback();
-                    }
-                    each.close();
-                } catch (final SQLException ex) {
-                    result.add(ex);
+        Collection<Connection> connections = removeCachedConnections();
+        resetSessionVariablesIfNecessary(connections, result);
+        for (Connection each : connections) {
+            try {
+                if (forceRollback && connectionSession.getTransactionStatus().isInTransaction()) {
+                    each.rollback();
                 }
+                each.close();
+            } catch (final SQLException ex) {
+                result.add(ex);
             }
-            cachedConnections.clear();
         }
         if (!forceRollback) {
             connectionPostProcessors.clear();
@@ -325,6 +336,17 @@ public final class ProxyDatabaseConnectionManager implements OnlineDatabaseConne
         return result;
     }
     
+    private Collection<Connection> removeCachedConnections() {
+        Collection<Connection> result = new LinkedList<>();
+        for (String each : cachedConnections.keySet()) {
+            List<Connection> removed = cachedConnections.remove(each);
+            if (null != removed) {
+                result.addAll(removed);
+            }
+        }
+        return result;
+    }
+    
     private void resetSessionVariablesIfNecessary(final Collection<Connection> values, final Collection<SQLException> exceptions) {
         if (connectionSession.getRequiredSessionVariableRecorder().isEmpty() || values.isEmpty()) {
             return;
@@ -20,7 +20,6 @@ package org.apache.shardingsphere.proxy.backend.connector.jdbc.connection;
 import io.netty.channel.ChannelHandlerContext;
 import lombok.SneakyThrows;
 
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -30,31 +29,37 @@ import java.util.concurrent.locks.ReentrantLock;
  */
 public final class ResourceLock {
     
-    private static final long DEFAULT_TIMEOUT_MILLISECONDS = 200L;
-    
     private final Lock lock = new ReentrantLock();
     
     private final Condition condition = lock.newCondition();
     
     /**
-     * Await.
+     * Await until channel is writable or inactive.
+     * 
+     * <p>The waiting thread is woken up by {@link #doNotify()} when channel writability or activity changes, instead of polling the channel.</p>
      *
      * @param context channel handler context
      */
-    @SuppressWarnings("ResultOfMethodCallIgnored")
     @SneakyThrows(InterruptedException.class)
     public void doAwait(final ChannelHandlerContext context) {
-        while (!context.channel().isWritable() && context.channel().isActive()) {
-            context.flush();
-            lock.lock();
-            try {
-                condition.await(DEFAULT_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS);
-            } finally {
-                lock.unlock();
+        if (isWritableOrInactive(context)) {
+            return;
+        }
+        context.flush();
+        lock.lock();
+        try {
+            while (!isWritableOrInactive(context)) {
+                condition.await();
             }
+        } finally {
+            lock.unlock();
         }
     }
     
+    private boolean isWritableOrInactive(final ChannelHandlerContext context) {
+        return context.channel().isWritable() || !context.channel().isActive();
+    }
+    
     /**
      * Notify.
      */
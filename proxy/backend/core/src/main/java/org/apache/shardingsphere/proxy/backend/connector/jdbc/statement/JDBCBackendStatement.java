@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.proxy.backend.connector.jdbc.statement;
 
+import org.apache.shardingsphere.db.protocol.parameter.BinaryStreamSQLParameter;
 import org.apache.shardingsphere.db.protocol.parameter.TypeUnspecifiedSQLParameter;
 import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
@@ -62,6 +63,8 @@ public final class JDBCBackendStatement implements ExecutorJDBCStatementManager
             Object param = paramIterator.next();
             if (param instanceof TypeUnspecifiedSQLParameter) {
                 result.setObject(index + 1, param, Types.OTHER);
+            } else if (param instanceof BinaryStreamSQLParameter) {
+                result.setBinaryStream(index + 1, ((BinaryStreamSQLParameter) param).getBinaryStream(), ((BinaryStreamSQLParameter) param).getLength());
             } else {
                 result.setObject(index + 1, param);
             }
@@ -84,7 +84,7 @@ public final class BackendTransactionManager implements TransactionManager {
     @Override
     public void commit() throws SQLException {
         for (TransactionHook each : transactionHooks) {
-            each.beforeCommit(connection.getCachedConnections().values(), getTransactionContext(), ProxyContext.getInstance().getContextManager().getInstanceContext().getLockContext());
+            each.beforeCommit(connection.getCachedConnections(), getTransactionContext(), ProxyContext.getInstance().getContextManager().getInstanceContext().getLockContext());
         }
         if (connection.getConnectionSession().getTransactionStatus().isInTransaction()) {
             try {
@@ -95,7 +95,7 @@ public final class BackendTransactionManager implements TransactionManager {
                 }
             } finally {
                 for (TransactionHook each : transactionHooks) {
-                    each.afterCommit(connection.getCachedConnections().values(), getTransactionContext(), ProxyContext.getInstance().getContextManager().getInstanceContext().getLockContext());
+                    each.afterCommit(connection.getCachedConnections(), getTransactionContext(), ProxyContext.getInstance().getContextManager().getInstanceContext().getLockContext());
                 }
                 connection.getConnectionSession().getTransactionStatus().setInTransaction(false);
                 connection.getConnectionSession().getTransactionStatus().setExceptionOccur(false);
@@ -108,7 +108,7 @@ public final class BackendTransactionManager implements TransactionManager {
     @Override
     public void rollback() throws SQLException {
         for (TransactionHook each : transactionHooks) {
-            each.beforeRollback(connection.getCachedConnections().values(), getTransactionContext());
+            each.beforeRollback(connection.getCachedConnections(), getTransactionContext());
         }
         if (connection.getConnectionSession().getTransactionStatus().isInTransaction()) {
             try {
@@ -119,7 +119,7 @@ public final class BackendTransactionManager implements TransactionManager {
                 }
             } finally {
                 for (TransactionHook each : transactionHooks) {
-                    each.afterRollback(connection.getCachedConnections().values(), getTransactionContext());
+                    each.afterRollback(connection.getCachedConnections(), getTransactionContext());
                 }
                 connection.getConnectionSession().getTransactionStatus().setInTransaction(false);
                 connection.getConnectionSession().getTransactionStatus().setExceptionOccur(false);
@@ -135,7 +135,7 @@ public final class BackendTransactionManager implements TransactionManager {
     
     @Override
     public void setSavepoint(final String savepointName) throws SQLException {
-        for (Connection each : connection.getCachedConnections().values()) {
+        for (Connection each : connection.getCachedConnections()) {
             ConnectionSavepointManager.getInstance().setSavepoint(each, savepointName);
         }
         connection.getConnectionPostProcessors().add(target -> ConnectionSavepointManager.getInstance().setSavepoint(target, savepointName));
@@ -144,7 +144,7 @@ public final class BackendTransactionManager implements TransactionManager {
     @Override
     public void rollbackTo(final String savepointName) throws SQLException {
         Collection<SQLException> result = new LinkedList<>();
-        for (Connection each : connection.getCachedConnections().values()) {
+        for (Connection each : connection.getCachedConnections()) {
             try {
                 ConnectionSavepointManager.getInstance().rollbackToSavepoint(each, savepointName);
             } catch (final SQLException ex) {
@@ -160,7 +160,7 @@ public final class BackendTransactionManager implements TransactionManager {
     @Override
     public void releaseSavepoint(final String savepointName) throws SQLException {
         Collection<SQLException> result = new LinkedList<>();
-        for (Connection each : connection.getCachedConnections().values()) {
+        for (Connection each : connection.getCachedConnections()) {
             try {
                 ConnectionSavepointManager.getInstance().releaseSavepoint(each, savepointName);
             } catch (final SQLException ex) {
@@ -59,7 +59,7 @@ public final class LocalTransactionManager {
     
     private Collection<SQLException> commitConnections() {
         Collection<SQLException> result = new LinkedList<>();
-        for (Connection each : databaseConnectionManager.getCachedConnections().values()) {
+        for (Connection each : databaseConnectionManager.getCachedConnections()) {
             try {
                 each.commit();
             } catch (final SQLException ex) {
@@ -85,7 +85,7 @@ public final class LocalTransactionManager {
     
     private Collection<SQLException> rollbackConnections() {
         Collection<SQLException> result = new LinkedList<>();
-        for (Connection each : databaseConnectionManager.getCachedConnections().values()) {
+        for (Connection each : databaseConnectionManager.getCachedConnections()) {
             try {
                 each.rollback();
             } catch (final SQLException ex) {
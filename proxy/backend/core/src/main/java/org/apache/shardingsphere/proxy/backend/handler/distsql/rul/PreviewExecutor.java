@@ -154,7 +154,8 @@ public final class PreviewExecutor implements DistSQLQueryExecutor<PreviewStatem
     @SuppressWarnings({"unchecked", "rawtypes"})
     private DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> createDriverExecutionPrepareEngine(final boolean isReturnGeneratedKeys, final ConfigurationProperties props) {
         int maxConnectionsSizePerQuery = props.<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
-        return new DriverExecutionPrepareEngine<>(JDBCDriverType.STATEMENT, maxConnectionsSizePerQuery, connectionContext.getDatabaseConnectionManager(),
+        boolean poolAwareEnabled = props.<Boolean>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY_POOL_AWARE_ENABLED);
+        return new DriverExecutionPrepareEngine<>(JDBCDriverType.STATEMENT, maxConnectionsSizePerQuery, poolAwareEnabled, connectionContext.getDatabaseConnectionManager(),
                 connectionContext.getExecutorStatementManager(), new StatementOption(isReturnGeneratedKeys), database.getRuleMetaData().getRules(), database.getResourceMetaData().getStorageUnits());
     }
     
@@ -37,4 +37,10 @@ public interface ServerPreparedStatement {
      * @return {@link SQLStatementContext}
      */
     SQLStatementContext getSqlStatementContext();
+    
+    /**
+     * Close server prepared statement and release resources held by it.
+     */
+    default void close() {
+    }
 }
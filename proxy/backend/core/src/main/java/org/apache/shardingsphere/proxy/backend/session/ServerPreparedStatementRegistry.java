@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.proxy.backend.session;
 
+import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -50,18 +51,26 @@ public final class ServerPreparedStatementRegistry {
     }
     
     /**
-     * Remove {@link ServerPreparedStatement} from registry.
+     * Remove {@link ServerPreparedStatement} from registry and close it.
      *
      * @param statementId statement ID
      */
     public void removePreparedStatement(final Object statementId) {
-        preparedStatements.remove(statementId);
+        ServerPreparedStatement removed = preparedStatements.remove(statementId);
+        if (null != removed) {
+            removed.close();
+        }
     }
     
     /**
-     * Clear prepared statements.
+     * Clear and close prepared statements.
      */
     public void clear() {
-        preparedStatements.clear();
+        Iterator<ServerPreparedStatement> iterator = preparedStatements.values().iterator();
+        while (iterator.hasNext()) {
+            ServerPreparedStatement each = iterator.next();
+            iterator.remove();
+            each.close();
+        }
     }
 }
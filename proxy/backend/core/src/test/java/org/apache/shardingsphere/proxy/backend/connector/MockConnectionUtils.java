@@ -17,8 +17,6 @@
 
 package org.apache.shardingsphere.proxy.backend.connector;
 
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.Multimap;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.SneakyThrows;
@@ -27,6 +25,8 @@ import org.mockito.internal.configuration.plugins.Plugins;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.mockito.Mockito.mock;
 
@@ -45,8 +45,8 @@ final class MockConnectionUtils {
      */
     @SneakyThrows(ReflectiveOperationException.class)
     static void setCachedConnections(final ProxyDatabaseConnectionManager databaseConnectionManager, final String dataSourceName, final int connectionSize) {
-        Multimap<String, Connection> cachedConnections = HashMultimap.create();
-        cachedConnections.putAll(databaseConnectionManager.getConnectionSession().getDatabaseName() + "." + dataSourceName, mockNewConnections(connectionSize));
+        Map<String, List<Connection>> cachedConnections = new ConcurrentHashMap<>();
+        cachedConnections.put(databaseConnectionManager.getConnectionSession().getDatabaseName() + "." + dataSourceName, mockNewConnections(connectionSize));
         Plugins.getMemberAccessor().set(databaseConnectionManager.getClass().getDeclaredField("cachedConnections"), databaseConnectionManager, cachedConnections);
     }
     
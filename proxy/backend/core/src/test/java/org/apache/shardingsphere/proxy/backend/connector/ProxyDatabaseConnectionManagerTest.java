@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.proxy.backend.connector;
 
-import com.google.common.collect.Multimap;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ConnectionPostProcessor;
@@ -54,6 +53,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
@@ -158,13 +158,10 @@ class ProxyDatabaseConnectionManagerTest {
         Plugins.getMemberAccessor().set(ProxyDatabaseConnectionManager.class.getDeclaredField("connectionPostProcessors"), databaseConnectionManager, connectionPostProcessors);
     }
     
-    @SuppressWarnings("unchecked")
     @Test
-    void assertCloseConnectionsCorrectlyWhenNotForceRollback() throws ReflectiveOperationException, SQLException {
-        Multimap<String, Connection> cachedConnections = (Multimap<String, Connection>) Plugins.getMemberAccessor()
-                .get(ProxyDatabaseConnectionManager.class.getDeclaredField("cachedConnections"), databaseConnectionManager);
+    void assertCloseConnectionsCorrectlyWhenNotForceRollback() throws SQLException {
+        Map<String, List<Connection>> cachedConnections = getCachedConnections();
         Connection connection = prepareCachedConnections();
-        cachedConnections.put("ignoredDataSourceName", connection);
         databaseConnectionManager.closeConnections(false);
         verify(connection).close();
         assertTrue(cachedConnections.isEmpty());
@@ -254,11 +251,8 @@ class ProxyDatabaseConnectionManagerTest {
         assertConnectionsCached(connectionSession.getDatabaseName() + ".ds1", connections);
     }
     
-    @SuppressWarnings("unchecked")
-    @SneakyThrows(ReflectiveOperationException.class)
     private void assertConnectionsCached(final String dataSourceName, final Collection<Connection> connections) {
-        Multimap<String, Connection> cachedConnections = (Multimap<String, Connection>) Plugins.getMemberAccessor()
-                .get(ProxyDatabaseConnectionManager.class.getDeclaredField("cachedConnections"), databaseConnectionManager);
+        Map<String, List<Connection>> cachedConnections = getCachedConnections();
         assertTrue(cachedConnections.containsKey(dataSourceName));
         assertArrayEquals(cachedConnections.get(dataSourceName).toArray(), connections.toArray());
     }
@@ -387,22 +381,24 @@ class ProxyDatabaseConnectionManagerTest {
         verify(cachedConnection).rollback();
     }
     
-    @SuppressWarnings("unchecked")
-    @SneakyThrows(ReflectiveOperationException.class)
     private Connection prepareCachedConnections() {
-        Multimap<String, Connection> cachedConnections = (Multimap<String, Connection>) Plugins.getMemberAccessor()
-                .get(ProxyDatabaseConnectionManager.class.getDeclaredField("cachedConnections"), databaseConnectionManager);
         Connection connection = mock(Connection.class);
-        cachedConnections.put("ignoredDataSourceName", connection);
+        getCachedConnections().put("ignoredDataSourceName", Collections.singletonList(connection));
         return connection;
     }
     
+    @SuppressWarnings("unchecked")
+    @SneakyThrows(ReflectiveOperationException.class)
+    private Map<String, List<Connection>> getCachedConnections() {
+        return (Map<String, List<Connection>>) Plugins.getMemberAccessor().get(ProxyDatabaseConnectionManager.class.getDeclaredField("cachedConnections"), databaseConnectionManager);
+    }
+    
     @Test
     void assertCloseConnectionsAndResetVariables() throws SQLException {
         connectionSession.getRequiredSessionVariableRecorder().setVariable("key", "default");
         Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
         when(connection.getMetaData().getDatabaseProductName()).thenReturn("PostgreSQL");
-        databaseConnectionManager.getCachedConnections().put("", connection);
+        getCachedConnections().put("", Collections.singletonList(connection));
         databaseConnectionManager.closeConnections(false);
         verify(connection.createStatement()).execute("RESET ALL");
         assertTrue(connectionSession.getRequiredSessionVariableRecorder().isEmpty());
@@ -414,7 +410,7 @@ class ProxyDatabaseConnectionManagerTest {
         Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
         SQLException expectedException = new SQLException();
         when(connection.getMetaData().getDatabaseProductName()).thenThrow(expectedException);
-        databaseConnectionManager.getCachedConnections().put("", connection);
+        getCachedConnections().put("", Collections.singletonList(connection));
         Collection<SQLException> actualExceptions = databaseConnectionManager.closeConnections(false);
         assertThat(actualExceptions, is(Collections.singletonList(expectedException)));
     }
@@ -426,16 +422,16 @@ class ProxyDatabaseConnectionManagerTest {
         when(connection.getMetaData().getDatabaseProductName()).thenReturn("PostgreSQL");
         SQLException expectedException = new SQLException();
         when(connection.createStatement()).thenThrow(expectedException);
-        databaseConnectionManager.getCachedConnections().put("", connection);
+        getCachedConnections().put("", Collections.singletonList(connection));
         Collection<SQLException> actualExceptions = databaseConnectionManager.closeConnections(false);
         assertThat(actualExceptions, is(Collections.singletonList(expectedException)));
     }
     
     @Test
     void assertGetDataSourceNamesOfCachedConnections() {
-        databaseConnectionManager.getCachedConnections().put(connectionSession.getDatabaseName() + ".ds_0", null);
-        databaseConnectionManager.getCachedConnections().put(connectionSession.getDatabaseName() + ".ds_1", null);
-        databaseConnectionManager.getCachedConnections().put(connectionSession.getDatabaseName() + ".ds_2", null);
+        getCachedConnections().put(connectionSession.getDatabaseName() + ".ds_0", Collections.emptyList());
+        getCachedConnections().put(connectionSession.getDatabaseName() + ".ds_1", Collections.emptyList());
+        getCachedConnections().put(connectionSession.getDatabaseName() + ".ds_2", Collections.emptyList());
         List<String> actual = new ArrayList<>(databaseConnectionManager.getUsedDataSourceNames());
         Collections.sort(actual);
         assertThat(actual, is(Arrays.asList("ds_0", "ds_1", "ds_2")));
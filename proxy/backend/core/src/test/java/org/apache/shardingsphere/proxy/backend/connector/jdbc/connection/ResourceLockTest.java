@@ -30,9 +30,12 @@ import org.mockito.quality.Strictness;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -77,4 +80,22 @@ class ResourceLockTest {
         resourceLock.doAwait(channelHandlerContext);
         assertTrue(System.currentTimeMillis() >= startTime);
     }
+    
+    @Test
+    void assertDoAwaitUntilNotifiedWithWritableChannel() throws Exception {
+        AtomicBoolean writable = new AtomicBoolean(false);
+        when(channel.isWritable()).thenAnswer(invocation -> writable.get());
+        when(channel.isActive()).thenReturn(true);
+        when(channelHandlerContext.channel()).thenReturn(channel);
+        ResourceLock actual = new ResourceLock();
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        Future<?> future = executorService.submit(() -> actual.doAwait(channelHandlerContext));
+        Awaitility.await().pollDelay(50L, TimeUnit.MILLISECONDS).until(() -> true);
+        assertFalse(future.isDone());
+        writable.set(true);
+        actual.doNotify();
+        future.get(1L, TimeUnit.SECONDS);
+        verify(channelHandlerContext).flush();
+        executorService.shutdown();
+    }
 }
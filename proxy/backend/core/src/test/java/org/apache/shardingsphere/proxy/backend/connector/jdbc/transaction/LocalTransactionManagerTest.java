@@ -17,8 +17,6 @@
 
 package org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction;
 
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.Multimap;
 import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnectionManager;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.backend.session.transaction.TransactionStatus;
@@ -33,6 +31,7 @@ import org.mockito.quality.Strictness;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import static org.mockito.Mockito.verify;
@@ -65,11 +64,9 @@ class LocalTransactionManagerTest {
         localTransactionManager = new LocalTransactionManager(databaseConnectionManager);
     }
     
-    private Multimap<String, Connection> setCachedConnections() {
-        Multimap<String, Connection> result = HashMultimap.create();
-        List<Connection> connections = new ArrayList<>(1);
-        connections.add(connection);
-        result.putAll("ds1", connections);
+    private Collection<Connection> setCachedConnections() {
+        List<Connection> result = new ArrayList<>(1);
+        result.add(connection);
         return result;
     }
     
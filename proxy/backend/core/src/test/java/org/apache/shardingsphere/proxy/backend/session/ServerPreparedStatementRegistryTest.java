@@ -24,6 +24,8 @@ import org.junit.jupiter.api.Test;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 class ServerPreparedStatementRegistryTest {
     
@@ -37,12 +39,23 @@ class ServerPreparedStatementRegistryTest {
         assertNull(registry.getPreparedStatement(1));
     }
     
+    @Test
+    void assertRemoveAndClosePreparedStatement() {
+        ServerPreparedStatement preparedStatement = mock(ServerPreparedStatement.class);
+        ServerPreparedStatementRegistry registry = new ServerPreparedStatementRegistry();
+        registry.addPreparedStatement(1, preparedStatement);
+        registry.removePreparedStatement(1);
+        verify(preparedStatement).close();
+    }
+    
     @Test
     void assertClearPreparedStatements() {
         ServerPreparedStatementRegistry registry = new ServerPreparedStatementRegistry();
-        registry.addPreparedStatement(1, new DummyServerPreparedStatement());
+        ServerPreparedStatement preparedStatement = mock(ServerPreparedStatement.class);
+        registry.addPreparedStatement(1, preparedStatement);
         registry.clear();
         assertNull(registry.getPreparedStatement(1));
+        verify(preparedStatement).close();
     }
     
     private static class DummyServerPreparedStatement implements ServerPreparedStatement {
@@ -38,6 +38,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.frontend.executor.ConnectionThreadExecutorGroup;
+import org.apache.shardingsphere.proxy.frontend.executor.UserExecutorGroup;
 import org.apache.shardingsphere.proxy.frontend.netty.ServerHandlerInitializer;
 import org.apache.shardingsphere.proxy.frontend.protocol.FrontDatabaseProtocolTypeFactory;
 
@@ -57,6 +59,7 @@ public final class ShardingSphereProxy {
     public ShardingSphereProxy() {
         bossGroup = Epoll.isAvailable() ? new EpollEventLoopGroup(1) : new NioEventLoopGroup(1);
         workerGroup = getWorkerGroup();
+        initCommandExecutors();
         Runtime.getRuntime().addShutdownHook(new Thread(this::close));
     }
     
@@ -65,6 +68,13 @@ public final class ShardingSphereProxy {
         return Epoll.isAvailable() ? new EpollEventLoopGroup(workerThreads) : new NioEventLoopGroup(workerThreads);
     }
     
+    private void initCommandExecutors() {
+        if (ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED)) {
+            UserExecutorGroup.getInstance().enableVirtualThread();
+            ConnectionThreadExecutorGroup.getInstance().setVirtualThreadEnabled(true);
+        }
+    }
+    
     /**
      * Start ShardingSphere-Proxy.
      *
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.codec.PacketEncodeStatistics;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+
+/**
+ * Query data flusher.
+ * 
+ * <p>Pending rows are flushed once their estimated size reaches {@link #FLUSH_BYTES}, estimated by the average encoded packet bytes observed on the channel,
+ * or once their count reaches the configured proxy frontend flush threshold.</p>
+ */
+public final class QueryDataFlusher {
+    
+    private static final int FLUSH_BYTES = 64 * 1024;
+    
+    private final ChannelHandlerContext context;
+    
+    private final int maxFlushRows;
+    
+    private final PacketEncodeStatistics statistics;
+    
+    private int pendingRows;
+    
+    public QueryDataFlusher(final ChannelHandlerContext context, final int maxFlushRows) {
+        this.context = context;
+        this.maxFlushRows = Math.max(1, maxFlushRows);
+        statistics = context.channel().attr(CommonConstants.PACKET_ENCODE_STATISTICS_ATTRIBUTE_KEY).get();
+    }
+    
+    /**
+     * Record a written row and flush pending rows if necessary.
+     */
+    public void rowWritten() {
+        if (++pendingRows >= getFlushRows()) {
+            context.flush();
+            pendingRows = 0;
+        }
+    }
+    
+    /**
+     * Get rows to be flushed at once.
+     *
+     * @return rows to be flushed at once
+     */
+    public int getFlushRows() {
+        int averagePacketBytes = null == statistics ? 0 : statistics.getAveragePacketBytes();
+        return averagePacketBytes <= 0 ? maxFlushRows : Math.max(1, Math.min(maxFlushRows, FLUSH_BYTES / averagePacketBytes));
+    }
+}
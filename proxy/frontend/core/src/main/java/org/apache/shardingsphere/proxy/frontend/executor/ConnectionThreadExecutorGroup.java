@@ -19,11 +19,14 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -42,6 +45,9 @@ public final class ConnectionThreadExecutorGroup {
     
     private final Map<Integer, ExecutorService> executorServices = new ConcurrentHashMap<>();
     
+    @Setter
+    private volatile boolean virtualThreadEnabled;
+    
     /**
      * Get connection thread executor group.
      *
@@ -61,7 +67,12 @@ public final class ConnectionThreadExecutorGroup {
     }
     
     private ExecutorService newSingleThreadExecutorService(final int connectionId) {
-        return new ThreadPoolExecutor(0, 1, 1L, TimeUnit.HOURS, new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, String.format("Connection-%d-ThreadExecutor", connectionId)));
+        return new ThreadPoolExecutor(0, 1, 1L, TimeUnit.HOURS, new LinkedBlockingQueue<>(), createThreadFactory(connectionId));
+    }
+    
+    private ThreadFactory createThreadFactory(final int connectionId) {
+        String threadName = String.format("Connection-%d-ThreadExecutor", connectionId);
+        return virtualThreadEnabled && ExecutorThreadFactoryBuilder.isVirtualThreadSupported() ? ExecutorThreadFactoryBuilder.buildVirtual(threadName) : runnable -> new Thread(runnable, threadName);
     }
     
     /**
@@ -17,8 +17,8 @@
 
 package org.apache.shardingsphere.proxy.frontend.executor;
 
-import lombok.Getter;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 
 import java.util.concurrent.ExecutorService;
 
@@ -31,14 +31,34 @@ public final class UserExecutorGroup {
     
     private static final UserExecutorGroup INSTANCE = new UserExecutorGroup();
     
-    @Getter
     private final ExecutorService executorService;
     
+    private volatile ExecutorService virtualThreadExecutorService;
+    
     private UserExecutorGroup() {
         ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(0, NAME_FORMAT);
         executorService = executorServiceManager.getExecutorService();
     }
     
+    /**
+     * Enable virtual thread for command executing if JVM supports.
+     */
+    public synchronized void enableVirtualThread() {
+        if (null == virtualThreadExecutorService && ExecutorThreadFactoryBuilder.isVirtualThreadSupported()) {
+            virtualThreadExecutorService = new ExecutorServiceManager(0, NAME_FORMAT, true).getExecutorService();
+        }
+    }
+    
+    /**
+     * Get executor service.
+     *
+     * @return executor service
+     */
+    public ExecutorService getExecutorService() {
+        ExecutorService result = virtualThreadExecutorService;
+        return null == result ? executorService : result;
+    }
+    
     /**
      * Get instance of user executor group.
      *
@@ -102,6 +102,7 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     @Override
     public void channelInactive(final ChannelHandlerContext context) {
         context.fireChannelInactive();
+        connectionSession.getDatabaseConnectionManager().getResourceLock().doNotify();
         UserExecutorGroup.getInstance().getExecutorService().execute(this::closeAllResources);
     }
     
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.shardingsphere.db.protocol.codec.PacketEncodeStatistics;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class QueryDataFlusherTest {
+    
+    @Mock
+    private ChannelHandlerContext context;
+    
+    private PacketEncodeStatistics statistics;
+    
+    @BeforeEach
+    void setUp() {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        statistics = new PacketEncodeStatistics();
+        channel.attr(CommonConstants.PACKET_ENCODE_STATISTICS_ATTRIBUTE_KEY).set(statistics);
+        when(context.channel()).thenReturn(channel);
+    }
+    
+    @Test
+    void assertGetFlushRowsWithoutStatistics() {
+        assertThat(new QueryDataFlusher(context, 128).getFlushRows(), is(128));
+    }
+    
+    @Test
+    void assertGetFlushRowsWithSmallPackets() {
+        statistics.record(16);
+        assertThat(new QueryDataFlusher(context, 128).getFlushRows(), is(128));
+    }
+    
+    @Test
+    void assertGetFlushRowsWithLargePackets() {
+        statistics.record(16 * 1024);
+        assertThat(new QueryDataFlusher(context, 128).getFlushRows(), is(4));
+    }
+    
+    @Test
+    void assertGetFlushRowsWithHugePackets() {
+        statistics.record(1024 * 1024);
+        assertThat(new QueryDataFlusher(context, 128).getFlushRows(), is(1));
+    }
+    
+    @Test
+    void assertRowWritten() {
+        statistics.record(32 * 1024);
+        QueryDataFlusher flusher = new QueryDataFlusher(context, 128);
+        flusher.rowWritten();
+        verify(context, never()).flush();
+        flusher.rowWritten();
+        flusher.rowWritten();
+        verify(context, times(1)).flush();
+    }
+}
@@ -32,6 +32,7 @@ import org.apache.shardingsphere.proxy.frontend.netty.FrontendChannelInboundHand
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
 
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Frontend engine for MySQL.
@@ -48,11 +49,13 @@ public final class MySQLFrontendEngine implements DatabaseProtocolFrontendEngine
     @Override
     public void initChannel(final Channel channel) {
         channel.attr(MySQLConstants.MYSQL_SEQUENCE_ID).set(new AtomicInteger());
+        channel.attr(MySQLConstants.MYSQL_LONG_DATA_SIZE).set(new AtomicLong());
         channel.pipeline().addBefore(FrontendChannelInboundHandler.class.getSimpleName(), MySQLSequenceIdInboundHandler.class.getSimpleName(), new MySQLSequenceIdInboundHandler());
     }
     
     @Override
     public void release(final ConnectionSession connectionSession) {
+        connectionSession.getServerPreparedStatementRegistry().clear();
         MySQLStatementIdGenerator.getInstance().unregisterConnection(connectionSession.getConnectionId());
     }
     
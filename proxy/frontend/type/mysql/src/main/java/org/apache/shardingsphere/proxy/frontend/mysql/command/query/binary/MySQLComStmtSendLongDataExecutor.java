@@ -17,14 +17,19 @@
 
 package org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary;
 
+import io.netty.buffer.ByteBuf;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLComStmtSendLongDataPacket;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * COM_STMT_SEND_LONG_DATA command executor for MySQL.
@@ -39,7 +44,17 @@ public final class MySQLComStmtSendLongDataExecutor implements CommandExecutor {
     @Override
     public Collection<DatabasePacket> execute() {
         MySQLServerPreparedStatement preparedStatement = connectionSession.getServerPreparedStatementRegistry().getPreparedStatement(packet.getStatementId());
-        preparedStatement.getLongData().put(packet.getParamId(), packet.getData());
+        if (preparedStatement.isLongDataOverflowed()) {
+            return Collections.emptyList();
+        }
+        ByteBuf data = packet.getData();
+        AtomicLong connectionLongDataSize = connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_LONG_DATA_SIZE).get();
+        long maxLongDataSize = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().getValue(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_LONG_DATA_SIZE);
+        if (maxLongDataSize > 0L && connectionLongDataSize.get() + data.readableBytes() > maxLongDataSize) {
+            preparedStatement.discardOverflowedLongData();
+            return Collections.emptyList();
+        }
+        preparedStatement.getLongData().computeIfAbsent(packet.getParamId(), unused -> new MySQLLongDataParameter(data.alloc(), connectionLongDataSize)).append(data);
         return Collections.emptyList();
     }
 }
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.CompositeByteBuf;
+import org.apache.shardingsphere.db.protocol.parameter.BinaryStreamSQLParameter;
+
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Long data parameter for MySQL, which is sent by COM_STMT_SEND_LONG_DATA.
+ * Chunks are kept in direct memory and accounted to the long data size of the connection until released.
+ */
+public final class MySQLLongDataParameter implements BinaryStreamSQLParameter {
+    
+    private final CompositeByteBuf data;
+    
+    private final AtomicLong connectionLongDataSize;
+    
+    public MySQLLongDataParameter(final ByteBufAllocator allocator, final AtomicLong connectionLongDataSize) {
+        data = allocator.compositeDirectBuffer(Integer.MAX_VALUE);
+        this.connectionLongDataSize = connectionLongDataSize;
+    }
+    
+    /**
+     * Append chunk.
+     *
+     * @param chunk chunk to be appended, which is copied and can be released by caller after appended
+     */
+    public void append(final ByteBuf chunk) {
+        int length = chunk.readableBytes();
+        if (0 == length) {
+            return;
+        }
+        ByteBuf component = data.alloc().directBuffer(length, length);
+        component.writeBytes(chunk, chunk.readerIndex(), length);
+        data.addComponent(true, component);
+        connectionLongDataSize.addAndGet(length);
+    }
+    
+    @Override
+    public InputStream getBinaryStream() {
+        return new ByteBufInputStream(data.duplicate());
+    }
+    
+    @Override
+    public long getLength() {
+        return data.readableBytes();
+    }
+    
+    /**
+     * Release.
+     */
+    public void release() {
+        connectionLongDataSize.addAndGet(-data.readableBytes());
+        data.release();
+    }
+    
+    @Override
+    public String toString() {
+        return "<long data of " + data.readableBytes() + " bytes>";
+    }
+}
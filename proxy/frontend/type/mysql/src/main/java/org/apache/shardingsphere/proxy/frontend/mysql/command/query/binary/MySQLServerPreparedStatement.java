@@ -21,9 +21,11 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLPreparedStatementParameterType;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.connection.kernel.ExecutionPlanCache;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatement;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -47,5 +49,39 @@ public final class MySQLServerPreparedStatement implements ServerPreparedStateme
     
     private final List<MySQLPreparedStatementParameterType> parameterTypes = new CopyOnWriteArrayList<>();
     
-    private final Map<Integer, byte[]> longData = new ConcurrentHashMap<>();
+    private final Map<Integer, MySQLLongDataParameter> longData = new ConcurrentHashMap<>();
+    
+    private final ExecutionPlanCache executionPlanCache = new ExecutionPlanCache();
+    
+    private volatile boolean longDataOverflowed;
+    
+    /**
+     * Discard long data because it overflows, the overflow will be reported by next execution.
+     */
+    public void discardOverflowedLongData() {
+        releaseLongData();
+        longDataOverflowed = true;
+    }
+    
+    /**
+     * Reset long data.
+     */
+    public void resetLongData() {
+        releaseLongData();
+        longDataOverflowed = false;
+    }
+    
+    private void releaseLongData() {
+        Iterator<MySQLLongDataParameter> iterator = longData.values().iterator();
+        while (iterator.hasNext()) {
+            MySQLLongDataParameter each = iterator.next();
+            iterator.remove();
+            each.release();
+        }
+    }
+    
+    @Override
+    public void close() {
+        resetLongData();
+    }
 }
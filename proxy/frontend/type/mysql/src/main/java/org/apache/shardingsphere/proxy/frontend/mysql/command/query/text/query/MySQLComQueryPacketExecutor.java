@@ -39,6 +39,7 @@ import org.apache.shardingsphere.proxy.frontend.mysql.command.ServerStatusFlagCa
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.builder.ResponsePacketBuilder;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
 
 import java.sql.SQLException;
@@ -78,7 +79,7 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     }
     
     private boolean isSuitableMultiStatementsSQLStatement(final SQLStatement sqlStatement) {
-        return sqlStatement instanceof UpdateStatement || sqlStatement instanceof DeleteStatement;
+        return sqlStatement instanceof UpdateStatement || sqlStatement instanceof DeleteStatement || sqlStatement instanceof InsertStatement;
     }
     
     @Override
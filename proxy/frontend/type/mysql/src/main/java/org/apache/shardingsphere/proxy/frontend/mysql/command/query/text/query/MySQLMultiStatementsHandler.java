@@ -17,7 +17,9 @@
 
 package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query;
 
+import org.apache.shardingsphere.infra.binder.context.segment.insert.keygen.GeneratedKeyContext;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
@@ -56,12 +58,15 @@ import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
 
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Statement;
-import java.util.Arrays;
+import java.sql.Types;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -69,16 +74,17 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.regex.Pattern;
 
 /**
  * Handler for MySQL multi statements.
  */
 public final class MySQLMultiStatementsHandler implements ProxyBackendHandler {
     
-    private static final Pattern MULTI_UPDATE_STATEMENTS = Pattern.compile(";(?=\\s*update)", Pattern.CASE_INSENSITIVE);
+    private static final String UPDATE_KEYWORD = "update";
     
-    private static final Pattern MULTI_DELETE_STATEMENTS = Pattern.compile(";(?=\\s*delete)", Pattern.CASE_INSENSITIVE);
+    private static final String DELETE_KEYWORD = "delete";
+    
+    private static final String INSERT_KEYWORD = "insert";
     
     private final KernelProcessor kernelProcessor = new KernelProcessor();
     
@@ -97,23 +103,80 @@ public final class MySQLMultiStatementsHandler implements ProxyBackendHandler {
         connectionSession.getDatabaseConnectionManager().handleAutoCommit();
         this.connectionSession = connectionSession;
         this.sqlStatementSample = sqlStatementSample;
-        Pattern pattern = sqlStatementSample instanceof UpdateStatement ? MULTI_UPDATE_STATEMENTS : MULTI_DELETE_STATEMENTS;
+        String keyword = getMultiStatementsKeyword(sqlStatementSample);
         SQLParserEngine sqlParserEngine = getSQLParserEngine();
-        for (String each : extractMultiStatements(pattern, sql)) {
+        for (String each : extractMultiStatements(keyword, sql)) {
             SQLStatement eachSQLStatement = sqlParserEngine.parse(each, false);
             multiSQLQueryContexts.add(createQueryContext(each, eachSQLStatement));
         }
     }
     
+    private String getMultiStatementsKeyword(final SQLStatement sqlStatementSample) {
+        if (sqlStatementSample instanceof UpdateStatement) {
+            return UPDATE_KEYWORD;
+        }
+        return sqlStatementSample instanceof InsertStatement ? INSERT_KEYWORD : DELETE_KEYWORD;
+    }
+    
     private SQLParserEngine getSQLParserEngine() {
         MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
         SQLParserRule sqlParserRule = metaDataContexts.getMetaData().getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
         return sqlParserRule.getSQLParserEngine(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
     }
     
-    private List<String> extractMultiStatements(final Pattern pattern, final String sql) {
-        // TODO Multi statements should be split by SQL Parser instead of simple regexp.
-        return Arrays.asList(pattern.split(sql));
+    private List<String> extractMultiStatements(final String keyword, final String sql) {
+        // TODO Multi statements should be split by SQL Parser instead of simple lexical scan.
+        List<String> result = new LinkedList<>();
+        int startIndex = 0;
+        char quote = 0;
+        int index = 0;
+        while (index < sql.length()) {
+            char each = sql.charAt(index);
+            if (0 != quote) {
+                if ('\\' == each && '`' != quote) {
+                    index++;
+                } else if (quote == each) {
+                    quote = 0;
+                }
+            } else if ('\'' == each || '"' == each || '`' == each) {
+                quote = each;
+            } else if (isInlineCommentStart(sql, index)) {
+                index = getInlineCommentEndIndex(sql, index);
+            } else if ('/' == each && index + 1 < sql.length() && '*' == sql.charAt(index + 1)) {
+                index = getBlockCommentEndIndex(sql, index);
+            } else if (';' == each && isStartWithKeyword(sql, index + 1, keyword)) {
+                result.add(sql.substring(startIndex, index));
+                startIndex = index + 1;
+            }
+            index++;
+        }
+        result.add(sql.substring(startIndex));
+        return result;
+    }
+    
+    private boolean isInlineCommentStart(final String sql, final int index) {
+        if ('#' == sql.charAt(index)) {
+            return true;
+        }
+        return sql.startsWith("--", index) && (index + 2 == sql.length() || Character.isWhitespace(sql.charAt(index + 2)));
+    }
+    
+    private int getInlineCommentEndIndex(final String sql, final int startIndex) {
+        int result = sql.indexOf('\n', startIndex);
+        return -1 == result ? sql.length() : result;
+    }
+    
+    private int getBlockCommentEndIndex(final String sql, final int startIndex) {
+        int result = sql.indexOf("*/", startIndex + 2);
+        return -1 == result ? sql.length() : result + 1;
+    }
+    
+    private boolean isStartWithKeyword(final String sql, final int startIndex, final String keyword) {
+        int index = startIndex;
+        while (index < sql.length() && Character.isWhitespace(sql.charAt(index))) {
+            index++;
+        }
+        return sql.regionMatches(true, index, keyword, 0, keyword.length());
     }
     
     private QueryContext createQueryContext(final String sql, final SQLStatement sqlStatement) {
@@ -126,8 +189,10 @@ public final class MySQLMultiStatementsHandler implements ProxyBackendHandler {
     public ResponseHeader execute() throws SQLException {
         Collection<ShardingSphereRule> rules = metaDataContexts.getMetaData().getDatabase(connectionSession.getDatabaseName()).getRuleMetaData().getRules();
         DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = new DriverExecutionPrepareEngine<>(JDBCDriverType.STATEMENT, metaDataContexts.getMetaData().getProps()
-                .<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), connectionSession.getDatabaseConnectionManager(),
-                (JDBCBackendStatement) connectionSession.getStatementManager(), new StatementOption(false), rules,
+                .<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY),
+                metaDataContexts.getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY_POOL_AWARE_ENABLED),
+                connectionSession.getDatabaseConnectionManager(), (JDBCBackendStatement) connectionSession.getStatementManager(),
+                new StatementOption(sqlStatementSample instanceof InsertStatement), rules,
                 metaDataContexts.getMetaData().getDatabase(connectionSession.getDatabaseName()).getResourceMetaData().getStorageUnits());
         return executeMultiStatements(prepareEngine);
     }
@@ -143,7 +208,7 @@ public final class MySQLMultiStatementsHandler implements ProxyBackendHandler {
                 prepareBatchedStatement(unit, dataSourcesToExecutionUnits);
             }
         }
-        return executeBatchedStatements(executionGroupContext);
+        return executeBatchedStatements(executionGroupContext, executionContexts);
     }
     
     private Collection<ExecutionContext> createExecutionContexts() {
@@ -186,39 +251,72 @@ public final class MySQLMultiStatementsHandler implements ProxyBackendHandler {
         }
     }
     
-    private UpdateResponseHeader executeBatchedStatements(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext) throws SQLException {
+    private UpdateResponseHeader executeBatchedStatements(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
+                                                          final Collection<ExecutionContext> executionContexts) throws SQLException {
         boolean isExceptionThrown = SQLExecutorExceptionHandler.isExceptionThrown();
         ResourceMetaData resourceMetaData = metaDataContexts.getMetaData().getDatabase(connectionSession.getDatabaseName()).getResourceMetaData();
-        JDBCExecutorCallback<int[]> callback = new BatchedJDBCExecutorCallback(resourceMetaData, sqlStatementSample, isExceptionThrown);
-        List<int[]> executeResults = jdbcExecutor.execute(executionGroupContext, callback);
-        int updated = 0;
-        for (int[] eachResult : executeResults) {
-            for (int each : eachResult) {
-                updated += each;
+        JDBCExecutorCallback<UpdateResult> callback = new BatchedJDBCExecutorCallback(resourceMetaData, sqlStatementSample, sqlStatementSample instanceof InsertStatement, isExceptionThrown);
+        List<UpdateResult> executeResults = jdbcExecutor.execute(executionGroupContext, callback);
+        // TODO Each logic SQL should correspond to an OK Packet.
+        UpdateResponseHeader result = new UpdateResponseHeader(sqlStatementSample, executeResults, getAutoIncrementGeneratedValues(executionContexts));
+        result.mergeUpdateCount();
+        return result;
+    }
+    
+    private Collection<Comparable<?>> getAutoIncrementGeneratedValues(final Collection<ExecutionContext> executionContexts) {
+        Collection<Comparable<?>> result = new LinkedList<>();
+        for (ExecutionContext each : executionContexts) {
+            if (each.getSqlStatementContext() instanceof InsertStatementContext) {
+                ((InsertStatementContext) each.getSqlStatementContext()).getGeneratedKeyContext()
+                        .filter(GeneratedKeyContext::isSupportAutoIncrement).map(GeneratedKeyContext::getGeneratedValues).ifPresent(result::addAll);
             }
         }
-        // TODO Each logic SQL should correspond to an OK Packet.
-        return new UpdateResponseHeader(sqlStatementSample, Collections.singletonList(new UpdateResult(updated, 0L)));
+        return result;
     }
     
-    private static final class BatchedJDBCExecutorCallback extends JDBCExecutorCallback<int[]> {
+    private static final class BatchedJDBCExecutorCallback extends JDBCExecutorCallback<UpdateResult> {
         
-        private BatchedJDBCExecutorCallback(final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement, final boolean isExceptionThrown) {
+        private final boolean isReturnGeneratedKeys;
+        
+        private BatchedJDBCExecutorCallback(final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement, final boolean isReturnGeneratedKeys, final boolean isExceptionThrown) {
             super(TypedSPILoader.getService(DatabaseType.class, "MySQL"), resourceMetaData, sqlStatement, isExceptionThrown);
+            this.isReturnGeneratedKeys = isReturnGeneratedKeys;
         }
         
         @Override
-        protected int[] executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode, final DatabaseType storageType) throws SQLException {
+        protected UpdateResult executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode, final DatabaseType storageType) throws SQLException {
             try {
-                return statement.executeBatch();
+                int updated = 0;
+                for (int each : statement.executeBatch()) {
+                    updated += each;
+                }
+                return new UpdateResult(updated, isReturnGeneratedKeys ? getGeneratedKey(statement) : 0L);
             } finally {
                 statement.close();
             }
         }
         
-        @SuppressWarnings("OptionalContainsCollection")
+        private long getGeneratedKey(final Statement statement) throws SQLException {
+            try (ResultSet resultSet = statement.getGeneratedKeys()) {
+                return resultSet.next() ? getGeneratedKeyIfInteger(resultSet) : 0L;
+            } catch (final SQLFeatureNotSupportedException ignore) {
+                return 0L;
+            }
+        }
+        
+        private long getGeneratedKeyIfInteger(final ResultSet resultSet) throws SQLException {
+            switch (resultSet.getMetaData().getColumnType(1)) {
+                case Types.SMALLINT:
+                case Types.INTEGER:
+                case Types.BIGINT:
+                    return resultSet.getLong(1);
+                default:
+                    return 0L;
+            }
+        }
+        
         @Override
-        protected Optional<int[]> getSaneResult(final SQLStatement sqlStatement, final SQLException ex) {
+        protected Optional<UpdateResult> getSaneResult(final SQLStatement sqlStatement, final SQLException ex) {
             return Optional.empty();
         }
     }
@@ -22,6 +22,8 @@ import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
 import org.apache.shardingsphere.db.protocol.mysql.netty.MySQLSequenceIdInboundHandler;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatement;
+import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatementRegistry;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.MySQLStatementIdGenerator;
 import org.apache.shardingsphere.proxy.frontend.netty.FrontendChannelInboundHandler;
 import org.apache.shardingsphere.test.mock.AutoMockExtension;
@@ -35,6 +37,7 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -62,6 +65,7 @@ class MySQLFrontendEngineTest {
     void assertInitChannel() {
         engine.initChannel(channel);
         verify(channel.attr(MySQLConstants.MYSQL_SEQUENCE_ID)).set(any(AtomicInteger.class));
+        verify(channel.attr(MySQLConstants.MYSQL_LONG_DATA_SIZE)).set(any(AtomicLong.class));
         verify(channel.pipeline())
                 .addBefore(eq(FrontendChannelInboundHandler.class.getSimpleName()), eq(MySQLSequenceIdInboundHandler.class.getSimpleName()), isA(MySQLSequenceIdInboundHandler.class));
     }
@@ -71,7 +75,12 @@ class MySQLFrontendEngineTest {
         ConnectionSession connectionSession = mock(ConnectionSession.class);
         int connectionId = 1;
         when(connectionSession.getConnectionId()).thenReturn(connectionId);
+        ServerPreparedStatement preparedStatement = mock(ServerPreparedStatement.class);
+        ServerPreparedStatementRegistry serverPreparedStatementRegistry = new ServerPreparedStatementRegistry();
+        serverPreparedStatementRegistry.addPreparedStatement(1, preparedStatement);
+        when(connectionSession.getServerPreparedStatementRegistry()).thenReturn(serverPreparedStatementRegistry);
         engine.release(connectionSession);
+        verify(preparedStatement).close();
         verify(MySQLStatementIdGenerator.getInstance()).unregisterConnection(connectionId);
     }
 }
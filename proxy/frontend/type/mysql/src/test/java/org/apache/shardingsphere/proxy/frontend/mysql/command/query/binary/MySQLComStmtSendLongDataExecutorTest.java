@@ -17,40 +17,108 @@
 
 package org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.DefaultAttributeMap;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLComStmtSendLongDataPacket;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatementRegistry;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(ProxyContext.class)
 class MySQLComStmtSendLongDataExecutorTest {
     
-    @Test
-    void assertExecute() {
-        MySQLComStmtSendLongDataPacket packet = mock(MySQLComStmtSendLongDataPacket.class);
-        when(packet.getStatementId()).thenReturn(1);
-        when(packet.getParamId()).thenReturn(0);
-        byte[] data = "data".getBytes(StandardCharsets.US_ASCII);
-        when(packet.getData()).thenReturn(data);
-        ConnectionSession connectionSession = mock(ConnectionSession.class);
+    private final ConnectionSession connectionSession = mock(ConnectionSession.class);
+    
+    private final AtomicLong connectionLongDataSize = new AtomicLong();
+    
+    private final MySQLServerPreparedStatement preparedStatement = new MySQLServerPreparedStatement("insert into t (b) values (?)", mock(SQLStatementContext.class),
+            new HintValueContext(), Collections.emptyList());
+    
+    @BeforeEach
+    void setUp() {
         when(connectionSession.getServerPreparedStatementRegistry()).thenReturn(new ServerPreparedStatementRegistry());
-        MySQLServerPreparedStatement preparedStatement = new MySQLServerPreparedStatement("insert into t (b) values (?)", mock(SQLStatementContext.class),
-                new HintValueContext(), Collections.emptyList());
+        DefaultAttributeMap attributeMap = new DefaultAttributeMap();
+        attributeMap.attr(MySQLConstants.MYSQL_LONG_DATA_SIZE).set(connectionLongDataSize);
+        when(connectionSession.getAttributeMap()).thenReturn(attributeMap);
         connectionSession.getServerPreparedStatementRegistry().addPreparedStatement(1, preparedStatement);
-        MySQLComStmtSendLongDataExecutor executor = new MySQLComStmtSendLongDataExecutor(packet, connectionSession);
-        Collection<DatabasePacket> actual = executor.execute();
+    }
+    
+    @Test
+    void assertExecute() throws IOException {
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Long>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_LONG_DATA_SIZE)).thenReturn(0L);
+        Collection<DatabasePacket> actual = new MySQLComStmtSendLongDataExecutor(mockPacket("da"), connectionSession).execute();
         assertThat(actual, is(Collections.emptyList()));
-        assertThat(preparedStatement.getLongData(), is(Collections.singletonMap(0, data)));
+        new MySQLComStmtSendLongDataExecutor(mockPacket("ta"), connectionSession).execute();
+        assertThat(preparedStatement.getLongData().size(), is(1));
+        MySQLLongDataParameter longData = preparedStatement.getLongData().get(0);
+        assertThat(longData.getLength(), is(4L));
+        assertThat(readAll(longData.getBinaryStream()), is("data"));
+        assertThat(readAll(longData.getBinaryStream()), is("data"));
+        assertThat(connectionLongDataSize.get(), is(4L));
+        preparedStatement.resetLongData();
+        assertThat(connectionLongDataSize.get(), is(0L));
+    }
+    
+    @Test
+    void assertExecuteWithOverflowedLongData() {
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Long>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_LONG_DATA_SIZE)).thenReturn(3L);
+        new MySQLComStmtSendLongDataExecutor(mockPacket("da"), connectionSession).execute();
+        assertThat(connectionLongDataSize.get(), is(2L));
+        new MySQLComStmtSendLongDataExecutor(mockPacket("ta"), connectionSession).execute();
+        assertTrue(preparedStatement.isLongDataOverflowed());
+        assertTrue(preparedStatement.getLongData().isEmpty());
+        assertThat(connectionLongDataSize.get(), is(0L));
+        new MySQLComStmtSendLongDataExecutor(mockPacket(), connectionSession).execute();
+        assertTrue(preparedStatement.getLongData().isEmpty());
+        preparedStatement.resetLongData();
+        assertFalse(preparedStatement.isLongDataOverflowed());
+    }
+    
+    private MySQLComStmtSendLongDataPacket mockPacket() {
+        MySQLComStmtSendLongDataPacket result = mock(MySQLComStmtSendLongDataPacket.class);
+        when(result.getStatementId()).thenReturn(1);
+        return result;
+    }
+    
+    private MySQLComStmtSendLongDataPacket mockPacket(final String data) {
+        MySQLComStmtSendLongDataPacket result = mockPacket();
+        ByteBuf byteBuf = Unpooled.copiedBuffer(data, StandardCharsets.US_ASCII);
+        when(result.getData()).thenReturn(byteBuf);
+        return result;
+    }
+    
+    private String readAll(final InputStream inputStream) throws IOException {
+        StringBuilder result = new StringBuilder();
+        int each;
+        while (-1 != (each = inputStream.read())) {
+            result.append((char) each);
+        }
+        return result.toString();
     }
 }
@@ -33,6 +33,7 @@ import org.apache.shardingsphere.infra.binder.context.statement.UnknownSQLStatem
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.UpdateStatementContext;
 import org.apache.shardingsphere.infra.database.mysql.type.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.exception.mysql.exception.NetPacketTooLargeException;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnectionManager;
@@ -75,6 +76,7 @@ import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
@@ -187,4 +189,18 @@ class MySQLComStmtExecuteExecutorTest {
         executor.close();
         verify(proxyBackendHandler).close();
     }
+    
+    @Test
+    void assertExecuteWithOverflowedLongData() throws SQLException {
+        MySQLServerPreparedStatement preparedStatement = new MySQLServerPreparedStatement(
+                "UPDATE tbl SET col=? WHERE id = 1", mock(SQLStatementContext.class), new HintValueContext(), Collections.emptyList());
+        preparedStatement.discardOverflowedLongData();
+        when(connectionSession.getServerPreparedStatementRegistry().getPreparedStatement(4)).thenReturn(preparedStatement);
+        MySQLComStmtExecutePacket packet = mock(MySQLComStmtExecutePacket.class);
+        when(packet.getStatementId()).thenReturn(4);
+        MySQLComStmtExecuteExecutor executor = new MySQLComStmtExecuteExecutor(packet, connectionSession);
+        assertThrows(NetPacketTooLargeException.class, executor::execute);
+        assertFalse(preparedStatement.isLongDataOverflowed());
+        executor.close();
+    }
 }
@@ -37,6 +37,7 @@ import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLUpdateStatement;
 import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
 import org.apache.shardingsphere.sqltranslator.rule.builder.DefaultSQLTranslatorRuleConfigurationBuilder;
@@ -48,6 +49,7 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
@@ -59,10 +61,13 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(AutoMockExtension.class)
@@ -100,12 +105,65 @@ class MySQLMultiStatementsHandlerTest {
         assertThat(actualHeader.getSqlStatement(), is(expectedStatement));
     }
     
+    @Test
+    void assertExecuteMultiInsertStatements() throws SQLException {
+        String sql = "insert into t (id, v) values (1, 1);insert into t (id, v) values (2, 1);insert into t (id, v) values (3, 1)";
+        Statement statement = mock(Statement.class);
+        ResultSet generatedKeys = mock(ResultSet.class, RETURNS_DEEP_STUBS);
+        when(generatedKeys.next()).thenReturn(true);
+        when(generatedKeys.getMetaData().getColumnType(1)).thenReturn(Types.BIGINT);
+        when(generatedKeys.getLong(1)).thenReturn(10L);
+        when(statement.getGeneratedKeys()).thenReturn(generatedKeys);
+        ConnectionSession connectionSession = mockConnectionSession(statement);
+        MySQLInsertStatement expectedStatement = mock(MySQLInsertStatement.class);
+        ContextManager contextManager = mockContextManager();
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+        ResponseHeader actual = new MySQLMultiStatementsHandler(connectionSession, expectedStatement, sql).execute();
+        assertThat(actual, instanceOf(UpdateResponseHeader.class));
+        UpdateResponseHeader actualHeader = (UpdateResponseHeader) actual;
+        assertThat(actualHeader.getUpdateCount(), is(3L));
+        assertThat(actualHeader.getLastInsertId(), is(10L));
+        assertThat(actualHeader.getSqlStatement(), is(expectedStatement));
+    }
+    
+    @Test
+    void assertExecuteMultiInsertStatementsWithSemicolonInLiteral() throws SQLException {
+        String sql = "insert into t (id, v) values (1, 'a; insert b');insert into t (id, v) values (2, 'c')";
+        Statement statement = mock(Statement.class);
+        when(statement.getGeneratedKeys()).thenReturn(mock(ResultSet.class));
+        ConnectionSession connectionSession = mockConnectionSession(statement);
+        ContextManager contextManager = mockContextManager();
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+        new MySQLMultiStatementsHandler(connectionSession, mock(MySQLInsertStatement.class), sql).execute();
+        verify(statement).addBatch("insert into t (id, v) values (1, 'a; insert b')");
+        verify(statement).addBatch("insert into t (id, v) values (2, 'c')");
+    }
+    
+    @Test
+    void assertExecuteMultiInsertStatementsWithQuoteAndSemicolonInComments() throws SQLException {
+        String sql = "insert into t (id, v) values (1, 'a') -- it's; insert\n;insert into t (id, v) values (2, 'b') # it's; insert\n"
+                + ";insert into t (id, v) values (3, /* it's; insert */ 'c')";
+        Statement statement = mock(Statement.class);
+        when(statement.getGeneratedKeys()).thenReturn(mock(ResultSet.class));
+        ConnectionSession connectionSession = mockConnectionSession(statement);
+        ContextManager contextManager = mockContextManager();
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+        new MySQLMultiStatementsHandler(connectionSession, mock(MySQLInsertStatement.class), sql).execute();
+        verify(statement).addBatch("insert into t (id, v) values (1, 'a') -- it's; insert\n");
+        verify(statement).addBatch("insert into t (id, v) values (2, 'b') # it's; insert\n");
+        verify(statement).addBatch("insert into t (id, v) values (3, /* it's; insert */ 'c')");
+        verify(statement, times(3)).addBatch(anyString());
+    }
+    
     private ConnectionSession mockConnectionSession() throws SQLException {
+        return mockConnectionSession(mock(Statement.class));
+    }
+    
+    private ConnectionSession mockConnectionSession(final Statement statement) throws SQLException {
         ConnectionSession result = mock(ConnectionSession.class, RETURNS_DEEP_STUBS);
         when(result.getDatabaseName()).thenReturn("foo_db");
         Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
         when(connection.getMetaData().getURL()).thenReturn("jdbc:mysql://127.0.0.1/db");
-        Statement statement = mock(Statement.class);
         when(statement.getConnection()).thenReturn(connection);
         when(statement.executeBatch()).thenReturn(new int[]{1, 1, 1});
         ProxyDatabaseConnectionManager databaseConnectionManager = mock(ProxyDatabaseConnectionManager.class);
@@ -132,8 +190,10 @@ class MySQLMultiStatementsHandlerTest {
                         new LoggingRule(new DefaultLoggingRuleConfigurationBuilder().build())));
         when(result.getMetaDataContexts().getMetaData().getGlobalRuleMetaData()).thenReturn(globalRuleMetaData);
         when(result.getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE)).thenReturn(1);
+        when(result.getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED)).thenReturn(false);
         when(result.getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW)).thenReturn(false);
         when(result.getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY)).thenReturn(1);
+        when(result.getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY_POOL_AWARE_ENABLED)).thenReturn(false);
         ShardingSphereTable table = new ShardingSphereTable("t", Arrays.asList(new ShardingSphereColumn("id", Types.BIGINT, true, false, false, false, true, false),
                 new ShardingSphereColumn("v", Types.INTEGER, false, false, false, false, true, false)), Collections.emptyList(), Collections.emptyList());
         when(result.getMetaDataContexts().getMetaData().getDatabase("foo_db").getSchema("foo_db").getTable("t")).thenReturn(table);
@@ -94,7 +94,12 @@ public final class Portal {
         DatabaseType protocolType = ProxyContext.getInstance().getContextManager().getDatabase(databaseName).getProtocolType();
         QueryContext queryContext = new QueryContext(sqlStatementContext, preparedStatement.getSql(), params, preparedStatement.getHintValueContext(), true);
         databaseConnectionManager.getConnectionSession().setQueryContext(queryContext);
-        proxyBackendHandler = ProxyBackendHandlerFactory.newInstance(protocolType, queryContext, databaseConnectionManager.getConnectionSession(), true);
+        databaseConnectionManager.getConnectionSession().setExecutionPlanCache(preparedStatement.getExecutionPlanCache());
+        try {
+            proxyBackendHandler = ProxyBackendHandlerFactory.newInstance(protocolType, queryContext, databaseConnectionManager.getConnectionSession(), true);
+        } finally {
+            databaseConnectionManager.getConnectionSession().setExecutionPlanCache(null);
+        }
     }
     
     /**
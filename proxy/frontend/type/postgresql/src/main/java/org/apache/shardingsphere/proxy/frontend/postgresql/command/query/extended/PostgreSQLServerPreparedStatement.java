@@ -25,6 +25,7 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLParameterDescriptionPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.connection.kernel.ExecutionPlanCache;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatement;
 
@@ -50,6 +51,8 @@ public final class PostgreSQLServerPreparedStatement implements ServerPreparedSt
     
     private final List<Integer> actualParameterMarkerIndexes;
     
+    private final ExecutionPlanCache executionPlanCache = new ExecutionPlanCache();
+    
     @Getter(AccessLevel.NONE)
     private PostgreSQLPacket rowDescription;
     
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.batch;
+
+import org.apache.shardingsphere.driver.executor.batch.BatchPreparedStatementExecutor;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Benchmark for {@link BatchPreparedStatementExecutor#addBatchForExecutionUnits(Collection)}.
+ * 
+ * <p>Each invocation adds one row which is routed to every execution unit, the executor is cleared when batch reaches configured rows, 
+ * so the cost per row should stay flat while batch grows.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BatchPreparedStatementExecutorBenchmark {
+    
+    private static final String[] DATA_SOURCE_NAMES = {"ds_0", "ds_1"};
+    
+    private static final String[] SQLS = {"INSERT INTO t_order_0 (order_id, user_id, status) VALUES (?, ?, ?)", "INSERT INTO t_order_1 (order_id, user_id, status) VALUES (?, ?, ?)",
+            "INSERT INTO t_order_2 (order_id, user_id, status) VALUES (?, ?, ?)", "INSERT INTO t_order_3 (order_id, user_id, status) VALUES (?, ?, ?)"};
+    
+    @Param({"1000", "10000", "100000"})
+    private int rows;
+    
+    private BatchPreparedStatementExecutor executor;
+    
+    private int addedRows;
+    
+    /**
+     * Set up.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        executor = new BatchPreparedStatementExecutor(mock(MetaDataContexts.class), mock(JDBCExecutor.class), "sharding_db", "");
+        addedRows = 0;
+    }
+    
+    /**
+     * Add batch.
+     */
+    @Benchmark
+    public void addBatch() {
+        if (addedRows == rows) {
+            executor.clear();
+            addedRows = 0;
+        }
+        executor.addBatchForExecutionUnits(createExecutionUnits(addedRows));
+        addedRows++;
+    }
+    
+    private Collection<ExecutionUnit> createExecutionUnits(final int row) {
+        Collection<ExecutionUnit> result = new ArrayList<>(DATA_SOURCE_NAMES.length * SQLS.length);
+        for (String each : DATA_SOURCE_NAMES) {
+            for (String sql : SQLS) {
+                List<Object> params = new ArrayList<>(Arrays.asList((long) row, row, "OK"));
+                result.add(new ExecutionUnit(each, new SQLUnit(sql, params)));
+            }
+        }
+        return result;
+    }
+}
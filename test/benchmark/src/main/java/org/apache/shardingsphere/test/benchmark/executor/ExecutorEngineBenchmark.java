@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.executor;
+
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Benchmark for {@link ExecutorEngine} with pooled platform threads and virtual threads.
+ * 
+ * <p>Each execution unit parks for a while to simulate a blocking JDBC call, many benchmark threads fan out concurrently to simulate client connections.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(64)
+public class ExecutorEngineBenchmark {
+    
+    @Param({"false", "true"})
+    private boolean virtualThreadEnabled;
+    
+    @Param({"0", "64"})
+    private int executorSize;
+    
+    @Param("16")
+    private int shardCount;
+    
+    @Param("1000")
+    private long blockingMicros;
+    
+    private ExecutorEngine executorEngine;
+    
+    private ExecutionGroupContext<Integer> executionGroupContext;
+    
+    private ExecutorCallback<Integer, Integer> callback;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        executorEngine = ExecutorEngine.createExecutorEngineWithSize(executorSize, virtualThreadEnabled);
+        Collection<ExecutionGroup<Integer>> inputGroups = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            inputGroups.add(new ExecutionGroup<>(Collections.singletonList(i)));
+        }
+        executionGroupContext = new ExecutionGroupContext<>(inputGroups, new ExecutionGroupReportContext("foo_process", "foo_db", null));
+        callback = (inputs, isTrunkThread, processId) -> {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(blockingMicros));
+            return inputs;
+        };
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown
+    public void tearDown() {
+        executorEngine.close();
+    }
+    
+    /**
+     * Execute fan-out query.
+     *
+     * @return execute results
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public List<Integer> execute() throws SQLException {
+        return executorEngine.execute(executionGroupContext, callback, callback, false);
+    }
+}
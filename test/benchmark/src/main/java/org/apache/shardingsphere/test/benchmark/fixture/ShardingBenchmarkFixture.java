@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.fixture;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableReferenceRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.route.engine.ShardingSQLRouter;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sqlfederation.api.config.SQLFederationRuleConfiguration;
+import org.apache.shardingsphere.sqlfederation.rule.SQLFederationRule;
+import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
+import org.apache.shardingsphere.sqltranslator.rule.builder.DefaultSQLTranslatorRuleConfigurationBuilder;
+import org.apache.shardingsphere.test.fixture.jdbc.MockedDataSource;
+import org.apache.shardingsphere.timeservice.api.config.TimestampServiceRuleConfiguration;
+import org.apache.shardingsphere.timeservice.core.rule.TimestampServiceRule;
+
+import javax.sql.DataSource;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Sharding benchmark fixture.
+ * 
+ * <p>Table {@code t_order} and {@code t_order_item} are binding tables sharded by {@code user_id} and {@code order_id} into 2 data sources and 4 tables per data source,
+ * table {@code t_user} is sharded by {@code user_id} into 2 data sources and 2 tables per data source. All metadata are in memory.</p>
+ */
+@Getter
+public final class ShardingBenchmarkFixture {
+    
+    public static final String DATABASE_NAME = "sharding_db";
+    
+    private final DatabaseType databaseType;
+    
+    private final ShardingRule shardingRule;
+    
+    private final ShardingSphereDatabase database;
+    
+    private final RuleMetaData globalRuleMetaData;
+    
+    private final ShardingSphereMetaData metaData;
+    
+    private final ConfigurationProperties props;
+    
+    private final SQLStatementParserEngine sqlStatementParserEngine;
+    
+    public ShardingBenchmarkFixture(final String databaseType) {
+        this.databaseType = TypedSPILoader.getService(DatabaseType.class, databaseType);
+        Map<String, DataSource> dataSources = createDataSources();
+        shardingRule = new ShardingRule(createShardingRuleConfiguration(), dataSources, mock(InstanceContext.class));
+        String schemaName = new DatabaseTypeRegistry(this.databaseType).getDefaultSchemaName(DATABASE_NAME);
+        database = new ShardingSphereDatabase(DATABASE_NAME, this.databaseType, new ResourceMetaData(dataSources),
+                new RuleMetaData(Collections.singleton(shardingRule)), Collections.singletonMap(schemaName, createSchema()));
+        globalRuleMetaData = new RuleMetaData(createGlobalRules());
+        props = new ConfigurationProperties(new Properties());
+        metaData = new ShardingSphereMetaData(Collections.singletonMap(DATABASE_NAME, database), new ResourceMetaData(Collections.emptyMap()), globalRuleMetaData, props);
+        sqlStatementParserEngine = new SQLStatementParserEngine(this.databaseType,
+                DefaultSQLParserRuleConfigurationBuilder.SQL_STATEMENT_CACHE_OPTION, DefaultSQLParserRuleConfigurationBuilder.PARSE_TREE_CACHE_OPTION);
+    }
+    
+    private Map<String, DataSource> createDataSources() {
+        Map<String, DataSource> result = new LinkedHashMap<>(2, 1F);
+        result.put("ds_0", new MockedDataSource());
+        result.put("ds_1", new MockedDataSource());
+        return result;
+    }
+    
+    private ShardingRuleConfiguration createShardingRuleConfiguration() {
+        ShardingRuleConfiguration result = new ShardingRuleConfiguration();
+        result.getTables().add(createTableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..3}", "order_id"));
+        result.getTables().add(createTableRuleConfiguration("t_order_item", "ds_${0..1}.t_order_item_${0..3}", "order_id"));
+        result.getTables().add(createTableRuleConfiguration("t_user", "ds_${0..1}.t_user_${0..1}", "user_id"));
+        result.getBindingTableGroups().add(new ShardingTableReferenceRuleConfiguration("order_reference", "t_order,t_order_item"));
+        result.getShardingAlgorithms().put("ds_inline", createInlineAlgorithmConfiguration("ds_${user_id % 2}"));
+        result.getShardingAlgorithms().put("t_order_inline", createInlineAlgorithmConfiguration("t_order_${order_id % 4}"));
+        result.getShardingAlgorithms().put("t_order_item_inline", createInlineAlgorithmConfiguration("t_order_item_${order_id % 4}"));
+        result.getShardingAlgorithms().put("t_user_inline", createInlineAlgorithmConfiguration("t_user_${user_id % 2}"));
+        return result;
+    }
+    
+    private ShardingTableRuleConfiguration createTableRuleConfiguration(final String logicTable, final String actualDataNodes, final String tableShardingColumn) {
+        ShardingTableRuleConfiguration result = new ShardingTableRuleConfiguration(logicTable, actualDataNodes);
+        result.setDatabaseShardingStrategy(new StandardShardingStrategyConfiguration("user_id", "ds_inline"));
+        result.setTableShardingStrategy(new StandardShardingStrategyConfiguration(tableShardingColumn, logicTable + "_inline"));
+        return result;
+    }
+    
+    private AlgorithmConfiguration createInlineAlgorithmConfiguration(final String algorithmExpression) {
+        Properties props = new Properties();
+        props.setProperty("algorithm-expression", algorithmExpression);
+        return new AlgorithmConfiguration("INLINE", props);
+    }
+    
+    private ShardingSphereSchema createSchema() {
+        Map<String, ShardingSphereTable> tables = new LinkedHashMap<>(3, 1F);
+        tables.put("t_order", new ShardingSphereTable("t_order", Arrays.asList(createColumn("order_id", Types.BIGINT, true), createColumn("user_id", Types.INTEGER, false),
+                createColumn("status", Types.VARCHAR, false)), Collections.emptyList(), Collections.emptyList()));
+        tables.put("t_order_item", new ShardingSphereTable("t_order_item", Arrays.asList(createColumn("item_id", Types.BIGINT, true), createColumn("order_id", Types.BIGINT, false),
+                createColumn("user_id", Types.INTEGER, false), createColumn("status", Types.VARCHAR, false)), Collections.emptyList(), Collections.emptyList()));
+        tables.put("t_user", new ShardingSphereTable("t_user", Arrays.asList(createColumn("user_id", Types.INTEGER, true), createColumn("user_name", Types.VARCHAR, false)),
+                Collections.emptyList(), Collections.emptyList()));
+        return new ShardingSphereSchema(tables, Collections.emptyMap());
+    }
+    
+    private ShardingSphereColumn createColumn(final String name, final int dataType, final boolean primaryKey) {
+        return new ShardingSphereColumn(name, dataType, primaryKey, false, false, true, false, !primaryKey);
+    }
+    
+    private Collection<ShardingSphereRule> createGlobalRules() {
+        Collection<ShardingSphereRule> result = new LinkedList<>();
+        result.add(new SQLParserRule(
+                new SQLParserRuleConfiguration(DefaultSQLParserRuleConfigurationBuilder.PARSE_TREE_CACHE_OPTION, DefaultSQLParserRuleConfigurationBuilder.SQL_STATEMENT_CACHE_OPTION)));
+        result.add(new SQLTranslatorRule(new DefaultSQLTranslatorRuleConfigurationBuilder().build()));
+        result.add(new SQLFederationRule(new SQLFederationRuleConfiguration(false, false, new CacheOption(2000, 65535L)), Collections.emptyMap()));
+        result.add(new TimestampServiceRule(new TimestampServiceRuleConfiguration("System", new Properties())));
+        return result;
+    }
+    
+    /**
+     * Bind SQL.
+     *
+     * @param sql SQL to be bound
+     * @param params SQL parameters
+     * @return SQL statement context
+     */
+    public SQLStatementContext bind(final String sql, final List<Object> params) {
+        return new SQLBindEngine(metaData, DATABASE_NAME, new HintValueContext()).bind(sqlStatementParserEngine.parse(sql, false), params);
+    }
+    
+    /**
+     * Create query context.
+     *
+     * @param sql SQL
+     * @param params SQL parameters
+     * @return query context
+     */
+    public QueryContext createQueryContext(final String sql, final List<Object> params) {
+        return new QueryContext(bind(sql, params), sql, params, new HintValueContext());
+    }
+    
+    /**
+     * Route query context with sharding rule.
+     *
+     * @param queryContext query context
+     * @return route context
+     */
+    public RouteContext route(final QueryContext queryContext) {
+        return new ShardingSQLRouter().createRouteContext(queryContext, globalRuleMetaData, database, shardingRule, props, new ConnectionContext());
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.merge;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.test.benchmark.fixture.ShardingBenchmarkFixture;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link ShardingDQLResultMerger}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ShardingDQLResultMergerBenchmark {
+    
+    private static final int SHARD_COUNT = 8;
+    
+    private static final int ROWS_PER_SHARD = 1000;
+    
+    @Param({"ORDER_BY", "GROUP_BY", "PAGINATION"})
+    private MergeType mergeType;
+    
+    private ShardingBenchmarkFixture fixture;
+    
+    private ShardingDQLResultMerger merger;
+    
+    private SQLStatementContext sqlStatementContext;
+    
+    private RawQueryResultMetaData queryResultMetaData;
+    
+    private List<List<MemoryQueryResultDataRow>> shardRows;
+    
+    private ConnectionContext connectionContext;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        fixture = new ShardingBenchmarkFixture("MySQL");
+        merger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+        sqlStatementContext = fixture.bind(mergeType.getSql(), Collections.emptyList());
+        queryResultMetaData = MergeType.GROUP_BY == mergeType ? createGroupByMetaData() : createOrderByMetaData();
+        shardRows = new ArrayList<>(SHARD_COUNT);
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            shardRows.add(MergeType.GROUP_BY == mergeType ? createGroupByRows(i) : createOrderByRows(i));
+        }
+        connectionContext = new ConnectionContext();
+    }
+    
+    private RawQueryResultMetaData createOrderByMetaData() {
+        return new RawQueryResultMetaData(Arrays.asList(
+                new RawQueryResultColumnMetaData("t_order", "order_id", "order_id", Types.BIGINT, "BIGINT", 20, 0),
+                new RawQueryResultColumnMetaData("t_order", "user_id", "user_id", Types.INTEGER, "INT", 11, 0),
+                new RawQueryResultColumnMetaData("t_order", "status", "status", Types.VARCHAR, "VARCHAR", 50, 0)));
+    }
+    
+    private RawQueryResultMetaData createGroupByMetaData() {
+        return new RawQueryResultMetaData(Arrays.asList(
+                new RawQueryResultColumnMetaData("t_order", "user_id", "user_id", Types.INTEGER, "INT", 11, 0),
+                new RawQueryResultColumnMetaData("", "COUNT(*)", "order_count", Types.BIGINT, "BIGINT", 20, 0)));
+    }
+    
+    private List<MemoryQueryResultDataRow> createOrderByRows(final int shardIndex) {
+        List<MemoryQueryResultDataRow> result = new ArrayList<>(ROWS_PER_SHARD);
+        for (int i = 0; i < ROWS_PER_SHARD; i++) {
+            long orderId = (long) i * SHARD_COUNT + shardIndex;
+            result.add(new MemoryQueryResultDataRow(Arrays.asList(orderId, (int) (orderId % 100), "OK")));
+        }
+        return result;
+    }
+    
+    private List<MemoryQueryResultDataRow> createGroupByRows(final int shardIndex) {
+        List<MemoryQueryResultDataRow> result = new ArrayList<>(ROWS_PER_SHARD);
+        for (int i = 0; i < ROWS_PER_SHARD; i++) {
+            result.add(new MemoryQueryResultDataRow(Arrays.asList(i, (long) (shardIndex + 1))));
+        }
+        return result;
+    }
+    
+    /**
+     * Merge and drain all merged rows.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void merge(final Blackhole blackhole) throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(shardRows.size());
+        for (List<MemoryQueryResultDataRow> each : shardRows) {
+            queryResults.add(new RawMemoryQueryResult(queryResultMetaData, each));
+        }
+        MergedResult mergedResult = merger.merge(queryResults, sqlStatementContext, fixture.getDatabase(), connectionContext);
+        while (mergedResult.next()) {
+            blackhole.consume(mergedResult.getValue(1, Object.class));
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    public enum MergeType {
+        
+        ORDER_BY("SELECT order_id, user_id, status FROM t_order ORDER BY order_id"),
+        
+        GROUP_BY("SELECT user_id, COUNT(*) AS order_count FROM t_order GROUP BY user_id ORDER BY user_id"),
+        
+        PAGINATION("SELECT order_id, user_id, status FROM t_order ORDER BY order_id LIMIT 100, 50");
+        
+        private final String sql;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.rewrite;
+
+import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.rewrite.engine.RouteSQLRewriteEngine;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.test.benchmark.fixture.ShardingBenchmarkFixture;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link RouteSQLRewriteEngine}.
+ * 
+ * <p>SQL rewrite context is created and decorated by {@link SQLRewriteEntry} before {@link RouteSQLRewriteEngine} runs, both are included.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RouteSQLRewriteEngineBenchmark {
+    
+    @Param({"SELECT o.order_id, o.status FROM t_order o WHERE o.user_id IN (?, ?) ORDER BY o.order_id LIMIT ?, ?",
+            "INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?), (?, ?, ?), (?, ?, ?), (?, ?, ?)"})
+    private String sql;
+    
+    private SQLRewriteEntry sqlRewriteEntry;
+    
+    private QueryContext queryContext;
+    
+    private RouteContext routeContext;
+    
+    private ConnectionContext connectionContext;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        ShardingBenchmarkFixture fixture = new ShardingBenchmarkFixture("MySQL");
+        sqlRewriteEntry = new SQLRewriteEntry(fixture.getDatabase(), fixture.getGlobalRuleMetaData(), fixture.getProps());
+        queryContext = sql.startsWith("INSERT")
+                ? fixture.createQueryContext(sql, Arrays.asList(1L, 1, "OK", 2L, 2, "OK", 3L, 3, "OK", 4L, 4, "OK"))
+                : fixture.createQueryContext(sql, Arrays.asList(1, 2, 10, 20));
+        routeContext = fixture.route(queryContext);
+        connectionContext = new ConnectionContext();
+    }
+    
+    /**
+     * Rewrite.
+     *
+     * @return SQL rewrite result
+     */
+    @Benchmark
+    public SQLRewriteResult rewrite() {
+        return sqlRewriteEntry.rewrite(queryContext, routeContext, connectionContext);
+    }
+}
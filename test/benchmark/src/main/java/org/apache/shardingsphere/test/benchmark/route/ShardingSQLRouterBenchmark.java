@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.route;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.sharding.route.engine.ShardingSQLRouter;
+import org.apache.shardingsphere.test.benchmark.fixture.ShardingBenchmarkFixture;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link ShardingSQLRouter}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ShardingSQLRouterBenchmark {
+    
+    @Param({"STANDARD", "COMPLEX", "BROADCAST"})
+    private RouteType routeType;
+    
+    private ShardingBenchmarkFixture fixture;
+    
+    private QueryContext queryContext;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        fixture = new ShardingBenchmarkFixture("MySQL");
+        queryContext = fixture.createQueryContext(routeType.getSql(), routeType.getParams());
+    }
+    
+    /**
+     * Route.
+     *
+     * @return route context
+     */
+    @Benchmark
+    public RouteContext route() {
+        return fixture.route(queryContext);
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    public enum RouteType {
+        
+        STANDARD("SELECT o.order_id, i.item_id FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id WHERE o.user_id = ? AND o.order_id IN (?, ?)", Arrays.asList(1, 1L, 2L)),
+        
+        COMPLEX("SELECT o.order_id, u.user_name FROM t_order o JOIN t_user u ON o.user_id = u.user_id WHERE o.user_id = ? AND o.order_id = ?", Arrays.asList(1, 1L)),
+        
+        BROADCAST("TRUNCATE TABLE t_order", Collections.emptyList());
+        
+        private final String sql;
+        
+        private final List<Object> params;
+    }
+}